@@ -1,24 +1,66 @@
 package org.example;
 
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.NoSuchElementException;
 
 /**
  * Manages a collection of ElectricAppliance objects in an apartment.
  * Provides methods for power calculation, sorting, and searching.
+ * <p>
+ * To keep its totals, zones and change feed up to date, the manager registers a listener on every appliance
+ * it holds, so each appliance keeps its managers reachable. A manager whose appliances outlive it must be
+ * closed with {@link #close()} (or have all appliances removed) before it is discarded; otherwise it stays
+ * in memory and keeps processing every plug-in state change of those appliances.
  */
-public class ApartmentApplianceManager {
+public class ApartmentApplianceManager implements AutoCloseable {
+    /** The number of most recent changes kept by the change feed by default. */
+    private static final int DEFAULT_CHANGE_FEED_CAPACITY = 1024;
+
     /** The list holding all ElectricAppliance objects in the apartment. */
     private final List<ElectricAppliance> appliances;
+    /** How many times each appliance occurs in the list; appliances are tracked by identity. */
+    private final Map<ElectricAppliance, Integer> occurrences;
+    /** The feed publishing add, plug-in, unplug and remove changes. */
+    private final ApplianceChangeFeed changeFeed;
+    /** The partitioning of the apartment into circuits and rooms with per-zone aggregates. */
+    private final ApplianceZoneMap zoneMap;
+    /** The running total power of plugged-in appliances (counting every occurrence), in Watts. */
+    private long pluggedInPowerW;
+    /** The listener registered once on every managed appliance to observe plug-in state changes. */
+    private final PlugStateListener plugStateListener = this::onPlugStateChanged;
+    /** The registry of appliance subtypes and their lazily loaded extension attributes. */
+    private final ApplianceTypeRegistry typeRegistry;
+    /** The renderer reused by {@link #writeReport(WritableByteChannel)}; created on first use. */
+    private ApplianceReportRenderer reportRenderer;
 
     /**
      * Initializes the manager with an empty list of appliances.
      */
     public ApartmentApplianceManager() {
+        this(DEFAULT_CHANGE_FEED_CAPACITY);
+    }
+
+    /**
+     * Initializes the manager with an empty list of appliances and a change feed of the given capacity.
+     * @param changeFeedCapacity The number of most recent changes kept for subscribers.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public ApartmentApplianceManager(int changeFeedCapacity) {
         this.appliances = new ArrayList<>();
+        this.occurrences = new IdentityHashMap<>();
+        this.changeFeed = new ApplianceChangeFeed(changeFeedCapacity, this::getAllAppliances);
+        this.typeRegistry = ApplianceTypeRegistry.createDefault(occurrences::containsKey);
+        this.zoneMap = new ApplianceZoneMap();
     }
 
     /**
@@ -31,10 +73,84 @@ public class ApartmentApplianceManager {
             throw new NullPointerException("Cannot add a null appliance.");
         }
         appliances.add(appliance);
+        if (appliance.isPluggedIn()) {
+            pluggedInPowerW += appliance.getPowerConsumptionW();
+        }
+        if (occurrences.merge(appliance, 1, Integer::sum) == 1) {
+            appliance.addPlugStateListener(plugStateListener);
+        }
+        changeFeed.publish(ApplianceChange.Type.ADDED, appliance);
+    }
+
+    /**
+     * Removes one occurrence of an appliance from the apartment list.
+     * @param appliance The ElectricAppliance object to remove.
+     * @return {@code true} if the appliance was in the list, {@code false} otherwise.
+     * @throws NullPointerException if the appliance object is null.
+     */
+    public boolean removeAppliance(ElectricAppliance appliance) {
+        if (appliance == null) {
+            throw new NullPointerException("Cannot remove a null appliance.");
+        }
+        Integer count = occurrences.get(appliance);
+        if (count == null) {
+            return false;
+        }
+
+        appliances.remove(appliance);
+        if (appliance.isPluggedIn()) {
+            pluggedInPowerW -= appliance.getPowerConsumptionW();
+        }
+        if (count == 1) {
+            occurrences.remove(appliance);
+            appliance.removePlugStateListener(plugStateListener);
+            typeRegistry.evict(appliance);
+            zoneMap.unassign(appliance);
+        } else {
+            occurrences.put(appliance, count - 1);
+        }
+        changeFeed.publish(ApplianceChange.Type.REMOVED, appliance);
+        return true;
+    }
+
+    /**
+     * Removes all appliances and detaches the manager from them, so it no longer receives their plug-in
+     * state changes and can be garbage collected even if the appliances are still in use.
+     * A removal change is published for every removed occurrence. The manager stays usable and is empty
+     * afterwards; closing it again has no effect.
+     */
+    @Override
+    public void close() {
+        for (ElectricAppliance appliance : appliances) {
+            changeFeed.publish(ApplianceChange.Type.REMOVED, appliance);
+        }
+        for (ElectricAppliance appliance : occurrences.keySet()) {
+            appliance.removePlugStateListener(plugStateListener);
+            typeRegistry.evict(appliance);
+            zoneMap.unassign(appliance);
+        }
+        appliances.clear();
+        occurrences.clear();
+        pluggedInPowerW = 0;
+    }
+
+    /**
+     * Updates the running totals and zone aggregates and publishes a plug-in or unplug change
+     * when a managed appliance changes state.
+     * @param appliance The appliance whose state changed.
+     * @param pluggedIn The new plug-in state.
+     */
+    private void onPlugStateChanged(ElectricAppliance appliance, boolean pluggedIn) {
+        long power = (long) appliance.getPowerConsumptionW() * occurrences.get(appliance);
+        pluggedInPowerW += pluggedIn ? power : -power;
+        zoneMap.plugStateChanged(appliance, pluggedIn);
+        changeFeed.publish(pluggedIn ? ApplianceChange.Type.PLUGGED_IN : ApplianceChange.Type.UNPLUGGED, appliance);
     }
 
     /**
      * Calculates the total power consumed by all appliances that are currently plugged in.
+     * The total is maintained incrementally as appliances are added, removed, plugged in and unplugged,
+     * so this takes constant time.
      * @return The total power consumption in Watts.
      */
     public int calculateTotalPluggedInPower() {
@@ -43,14 +159,7 @@ public class ApartmentApplianceManager {
             return 0;
         }
 
-        int totalPower;
-        // Use Java Stream API to filter and sum
-        totalPower = appliances.stream()
-                .filter(ElectricAppliance::isPluggedIn)
-                .mapToInt(ElectricAppliance::getPowerConsumptionW)
-                .sum();
-
-        return totalPower;
+        return (int) pluggedInPowerW;
     }
 
     /**
@@ -98,6 +207,160 @@ public class ApartmentApplianceManager {
         return filtered;
     }
 
+    /**
+     * Assigns an appliance to a zone (circuit or room) of the zone map, moving it out of its previous zone.
+     * An appliance added several times is still counted once in its zone.
+     * @param appliance The managed appliance to assign.
+     * @param zoneName The name of the target zone.
+     * @throws NullPointerException if the appliance is null.
+     * @throws IllegalArgumentException if the appliance is not managed by this manager.
+     * @throws NoSuchElementException if there is no zone with the given name.
+     */
+    public void assignToZone(ElectricAppliance appliance, String zoneName) {
+        if (appliance == null) {
+            throw new NullPointerException("Cannot assign a null appliance.");
+        }
+        if (!occurrences.containsKey(appliance)) {
+            throw new IllegalArgumentException(appliance.getName() + " is not managed by this manager.");
+        }
+        zoneMap.assign(appliance, zoneMap.getZone(zoneName));
+    }
+
+    /**
+     * Gets the partitioning of the apartment into circuits and rooms.
+     * @return The zone map of this manager.
+     */
+    public ApplianceZoneMap getZoneMap() {
+        return zoneMap;
+    }
+
+    /**
+     * Finds appliances of a subtype whose extension attribute matches a condition.
+     * Only appliances of the given type are inspected, and their attribute is loaded lazily
+     * through the type registry on first use.
+     * @param type The appliance subtype to search (e.g., Laptop.class).
+     * @param attribute The name of the extension attribute (e.g., "screenSizeInches").
+     * @param condition The condition the attribute value must satisfy.
+     * @param <A> The appliance subtype.
+     * @return A list of matching appliances, in list order.
+     * @throws NullPointerException if the type or the condition is null.
+     * @throws IllegalArgumentException if the type or the attribute is not registered.
+     * @throws NoSuchElementException if no appliance matches.
+     */
+    public <A extends ElectricAppliance> List<A> findByAttribute(Class<A> type, String attribute,
+                                                                 Predicate<Object> condition) {
+        if (type == null || condition == null) {
+            throw new NullPointerException("Type and condition must not be null.");
+        }
+        if (!typeRegistry.getAttributeNames(type).contains(attribute)) {
+            throw new IllegalArgumentException(
+                    "Attribute '" + attribute + "' is not registered for " + type.getSimpleName());
+        }
+
+        List<A> filtered = new ArrayList<>();
+        for (ElectricAppliance appliance : appliances) {
+            if (type.isInstance(appliance) && condition.test(typeRegistry.getAttribute(appliance, attribute))) {
+                filtered.add(type.cast(appliance));
+            }
+        }
+
+        if (filtered.isEmpty()) {
+            throw new NoSuchElementException(
+                    "No " + type.getSimpleName() + " found matching attribute '" + attribute + "'"
+            );
+        }
+
+        return filtered;
+    }
+
+    /**
+     * Gets the registry of appliance subtypes, used to register custom types and extension attributes.
+     * @return The type registry of this manager.
+     */
+    public ApplianceTypeRegistry getTypeRegistry() {
+        return typeRegistry;
+    }
+
+    /**
+     * Computes power and EMR statistics over all appliances in a single pass.
+     * @return The statistics of all managed appliances (empty statistics if there are none).
+     */
+    public ApplianceStatistics calculateStatistics() {
+        ApplianceStatistics statistics = new ApplianceStatistics();
+        for (ElectricAppliance appliance : appliances) {
+            statistics.accept(appliance);
+        }
+        return statistics;
+    }
+
+    /**
+     * Groups the appliances by the given key and computes power and EMR statistics for every group
+     * in a single pass over the list, without copying it.
+     * Ready-made classifiers (by type, plug state, power or EMR buckets) are provided by {@link ApplianceGroupings}.
+     * @param classifier The function mapping an appliance to its group key.
+     * @param <K> The type of the group key.
+     * @return The statistics per group key, in order of first appearance; empty if there are no appliances.
+     * @throws NullPointerException if the classifier is null or returns a null key.
+     */
+    public <K> Map<K, ApplianceStatistics> aggregateBy(Function<? super ElectricAppliance, ? extends K> classifier) {
+        if (classifier == null) {
+            throw new NullPointerException("Classifier must not be null.");
+        }
+
+        Map<K, ApplianceStatistics> groups = new LinkedHashMap<>();
+        for (ElectricAppliance appliance : appliances) {
+            K key = classifier.apply(appliance);
+            if (key == null) {
+                throw new NullPointerException("Classifier returned a null key for " + appliance.getName());
+            }
+            groups.computeIfAbsent(key, k -> new ApplianceStatistics()).accept(appliance);
+        }
+        return groups;
+    }
+
+    /**
+     * Writes a report line for every appliance, in the current list order, to the given channel.
+     * The output is UTF-8 encoded and byte-identical to printing each appliance with {@code println},
+     * but is rendered without copying the list or formatting intermediate strings.
+     * @param channel The destination channel.
+     * @return The number of appliances written.
+     * @throws IOException if writing to the channel fails.
+     * @throws NullPointerException if the channel is null.
+     */
+    public long writeReport(WritableByteChannel channel) throws IOException {
+        if (reportRenderer == null) {
+            reportRenderer = new ApplianceReportRenderer();
+        }
+        return reportRenderer.render(appliances, channel);
+    }
+
+    /**
+     * Gets the change feed of this manager.
+     * @return The feed of add, plug-in, unplug and remove changes.
+     */
+    public ApplianceChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
+
+    /**
+     * Subscribes to the change feed from the beginning. The first poll returns all changes so far,
+     * or a snapshot if the earliest ones are no longer buffered.
+     * @return A new subscription.
+     */
+    public ApplianceChangeSubscription subscribe() {
+        return changeFeed.subscribe(0);
+    }
+
+    /**
+     * Subscribes to the change feed, resuming after a previously processed sequence number.
+     * @param afterSequence The last sequence number the subscriber has processed.
+     * @return A new subscription.
+     * @throws IllegalArgumentException if the sequence number is negative or greater than the latest one.
+     */
+    public ApplianceChangeSubscription subscribe(long afterSequence) {
+        return changeFeed.subscribe(afterSequence);
+    }
+
     /**
      * Gets the current list of all appliances.
      * @return The list of all appliances currently managed.
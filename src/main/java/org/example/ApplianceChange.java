@@ -0,0 +1,74 @@
+package org.example;
+
+/**
+ * A single change (delta) published by the {@link ApplianceChangeFeed} of a manager.
+ * Every change carries a sequence number that is strictly increasing within its feed.
+ */
+public class ApplianceChange {
+
+    /**
+     * The kinds of changes a manager publishes.
+     */
+    public enum Type {
+        /** The appliance was added to the manager. */
+        ADDED,
+        /** The appliance was plugged in. */
+        PLUGGED_IN,
+        /** The appliance was unplugged. */
+        UNPLUGGED,
+        /** The appliance was removed from the manager. */
+        REMOVED
+    }
+
+    /** The sequence number of the change within its feed (starting at 1). */
+    private final long sequence;
+    /** The kind of change. */
+    private final Type type;
+    /** The appliance the change refers to. */
+    private final ElectricAppliance appliance;
+
+    /**
+     * Constructor for ApplianceChange; changes are only created by the feed.
+     * @param sequence The sequence number of the change.
+     * @param type The kind of change.
+     * @param appliance The appliance the change refers to.
+     */
+    ApplianceChange(long sequence, Type type, ElectricAppliance appliance) {
+        this.sequence = sequence;
+        this.type = type;
+        this.appliance = appliance;
+    }
+
+    /**
+     * Retrieves the sequence number of the change.
+     * @return The sequence number (starting at 1).
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Retrieves the kind of change.
+     * @return The change type.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Retrieves the appliance the change refers to.
+     * @return The changed appliance.
+     */
+    public ElectricAppliance getAppliance() {
+        return appliance;
+    }
+
+    /**
+     * Provides a string representation of the change.
+     * @return A string with the sequence number, change type and appliance name.
+     */
+    @Override
+    public String toString() {
+        return "#" + sequence + " " + type + " " + appliance.getName();
+    }
+}
@@ -0,0 +1,67 @@
+package org.example;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of reading an {@link ApplianceChangeFeed} from a given sequence number.
+ * Normally it holds the changes published since that sequence number. If the reader fell so far behind
+ * that those changes were already overwritten in the feed's ring buffer, it holds a full snapshot
+ * of the appliances instead, and the reader continues from {@link #getLastSequence()}.
+ */
+public class ApplianceChangeBatch {
+    /** The changes since the requested sequence number, in order (empty for snapshots). */
+    private final List<ApplianceChange> changes;
+    /** The full list of appliances, or null if this batch contains changes only. */
+    private final List<ElectricAppliance> snapshot;
+    /** The sequence number the batch is up to date with. */
+    private final long lastSequence;
+
+    /**
+     * Constructor for ApplianceChangeBatch; batches are only created by the feed.
+     * @param changes The changes since the requested sequence number.
+     * @param snapshot The full list of appliances, or null if the batch contains changes only.
+     * @param lastSequence The sequence number the batch is up to date with.
+     */
+    ApplianceChangeBatch(List<ApplianceChange> changes, List<ElectricAppliance> snapshot, long lastSequence) {
+        this.changes = Collections.unmodifiableList(changes);
+        this.snapshot = snapshot == null ? null : Collections.unmodifiableList(snapshot);
+        this.lastSequence = lastSequence;
+    }
+
+    /**
+     * Checks whether the batch is a full snapshot instead of a list of changes.
+     * @return {@code true} if the reader must replace its state with {@link #getSnapshot()}.
+     */
+    public boolean isSnapshot() {
+        return snapshot != null;
+    }
+
+    /**
+     * Gets the changes since the requested sequence number.
+     * @return An unmodifiable list of changes in sequence order; empty for snapshots.
+     */
+    public List<ApplianceChange> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Gets the full list of appliances at {@link #getLastSequence()}.
+     * @return An unmodifiable list of all appliances.
+     * @throws IllegalStateException if the batch is not a snapshot.
+     */
+    public List<ElectricAppliance> getSnapshot() {
+        if (snapshot == null) {
+            throw new IllegalStateException("This batch contains changes, not a snapshot.");
+        }
+        return snapshot;
+    }
+
+    /**
+     * Gets the sequence number the batch is up to date with; pass it to the next read to resume.
+     * @return The last sequence number covered by the batch.
+     */
+    public long getLastSequence() {
+        return lastSequence;
+    }
+}
@@ -0,0 +1,109 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Change-data-capture feed of an {@link ApartmentApplianceManager}.
+ * Add, plug-in, unplug and remove changes are numbered with increasing sequence numbers and kept
+ * in a bounded ring buffer. Readers resume from the last sequence number they processed and get only
+ * the newer changes; readers that fell behind by more than the buffer capacity get a full snapshot instead.
+ */
+public class ApplianceChangeFeed {
+    /** The ring buffer holding the most recent changes; change {@code n} is stored at {@code n % length}. */
+    private final ApplianceChange[] ring;
+    /** Provides the full list of appliances for readers that fell behind the ring buffer. */
+    private final Supplier<List<ElectricAppliance>> snapshotSupplier;
+    /** The sequence number of the most recently published change (0 if none). */
+    private long latestSequence;
+
+    /**
+     * Constructor for ApplianceChangeFeed; feeds are only created by the manager.
+     * @param capacity The number of most recent changes kept in the ring buffer.
+     * @param snapshotSupplier Provides the full list of appliances for snapshot fallbacks.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    ApplianceChangeFeed(int capacity, Supplier<List<ElectricAppliance>> snapshotSupplier) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Change feed capacity must be a positive value.");
+        }
+        this.ring = new ApplianceChange[capacity];
+        this.snapshotSupplier = snapshotSupplier;
+        this.latestSequence = 0;
+    }
+
+    /**
+     * Publishes a change under the next sequence number, overwriting the oldest buffered change if full.
+     * @param type The kind of change.
+     * @param appliance The appliance the change refers to.
+     */
+    void publish(ApplianceChange.Type type, ElectricAppliance appliance) {
+        latestSequence++;
+        ring[(int) (latestSequence % ring.length)] = new ApplianceChange(latestSequence, type, appliance);
+    }
+
+    /**
+     * Gets the sequence number of the most recently published change.
+     * @return The latest sequence number, or 0 if nothing was published yet.
+     */
+    public long getLatestSequence() {
+        return latestSequence;
+    }
+
+    /**
+     * Gets the sequence number of the oldest change still held in the ring buffer.
+     * @return The oldest available sequence number.
+     */
+    public long getOldestAvailableSequence() {
+        return Math.max(1, latestSequence - ring.length + 1);
+    }
+
+    /**
+     * Gets the number of changes the ring buffer can hold.
+     * @return The capacity of the feed.
+     */
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    /**
+     * Reads everything published after the given sequence number. The work done is proportional to the
+     * number of new changes, unless they are no longer buffered, in which case a snapshot is returned.
+     * @param afterSequence The last sequence number the reader has processed (0 to read from the beginning).
+     * @return The batch of changes, or a snapshot if the reader fell behind the ring buffer.
+     * @throws IllegalArgumentException if the sequence number is negative or greater than the latest one.
+     */
+    public ApplianceChangeBatch read(long afterSequence) {
+        if (afterSequence < 0 || afterSequence > latestSequence) {
+            throw new IllegalArgumentException("Sequence number must be between 0 and " + latestSequence
+                    + ", got " + afterSequence);
+        }
+
+        long latest = latestSequence;
+        if (afterSequence + 1 < getOldestAvailableSequence()) {
+            // The missing changes were overwritten, so the reader has to start over from the current state
+            return new ApplianceChangeBatch(new ArrayList<>(), snapshotSupplier.get(), latest);
+        }
+
+        List<ApplianceChange> changes = new ArrayList<>((int) (latest - afterSequence));
+        for (long sequence = afterSequence + 1; sequence <= latest; sequence++) {
+            changes.add(ring[(int) (sequence % ring.length)]);
+        }
+        return new ApplianceChangeBatch(changes, null, latest);
+    }
+
+    /**
+     * Creates a subscription that resumes after the given sequence number.
+     * @param afterSequence The last sequence number the subscriber has processed (0 to start from the beginning).
+     * @return A new subscription.
+     * @throws IllegalArgumentException if the sequence number is negative or greater than the latest one.
+     */
+    public ApplianceChangeSubscription subscribe(long afterSequence) {
+        if (afterSequence < 0 || afterSequence > latestSequence) {
+            throw new IllegalArgumentException("Sequence number must be between 0 and " + latestSequence
+                    + ", got " + afterSequence);
+        }
+        return new ApplianceChangeSubscription(this, afterSequence);
+    }
+}
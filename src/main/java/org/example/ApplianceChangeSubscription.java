@@ -0,0 +1,40 @@
+package org.example;
+
+/**
+ * A consumer's position in an {@link ApplianceChangeFeed}.
+ * Each poll returns what was published since the previous poll and advances the position.
+ */
+public class ApplianceChangeSubscription {
+    /** The feed this subscription reads from. */
+    private final ApplianceChangeFeed feed;
+    /** The last sequence number delivered to the subscriber. */
+    private long lastSequence;
+
+    /**
+     * Constructor for ApplianceChangeSubscription; subscriptions are only created by the feed.
+     * @param feed The feed to read from.
+     * @param lastSequence The last sequence number the subscriber has processed.
+     */
+    ApplianceChangeSubscription(ApplianceChangeFeed feed, long lastSequence) {
+        this.feed = feed;
+        this.lastSequence = lastSequence;
+    }
+
+    /**
+     * Reads the changes published since the previous poll and advances the subscription past them.
+     * @return The new changes, or a snapshot if the subscriber fell behind the feed's ring buffer.
+     */
+    public ApplianceChangeBatch poll() {
+        ApplianceChangeBatch batch = feed.read(lastSequence);
+        lastSequence = batch.getLastSequence();
+        return batch;
+    }
+
+    /**
+     * Gets the last sequence number delivered to the subscriber; it can be stored to resume later.
+     * @return The last delivered sequence number.
+     */
+    public long getLastSequence() {
+        return lastSequence;
+    }
+}
@@ -0,0 +1,139 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Factory of ready-made classifiers for {@link ApartmentApplianceManager#aggregateBy}.
+ * Bucket classifiers precompute their labels, so classifying an appliance does not allocate.
+ */
+public final class ApplianceGroupings {
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private ApplianceGroupings() {
+    }
+
+    /**
+     * Groups appliances by their concrete class (e.g., Refrigerator, Laptop).
+     * @return A classifier returning the appliance's class.
+     */
+    public static Function<ElectricAppliance, Class<? extends ElectricAppliance>> byType() {
+        return ElectricAppliance::getClass;
+    }
+
+    /**
+     * Groups appliances by whether they are currently plugged in.
+     * @return A classifier returning the plug-in state.
+     */
+    public static Function<ElectricAppliance, Boolean> byPlugState() {
+        return ElectricAppliance::isPluggedIn;
+    }
+
+    /**
+     * Groups appliances into power consumption buckets. For bounds {@code 100, 500} the buckets are
+     * {@code "[0, 100)"}, {@code "[100, 500)"} and {@code "[500, +inf)"}.
+     * @param bounds The bucket boundaries in Watts, strictly ascending and positive.
+     * @return A classifier returning the label of the bucket the appliance's power falls into.
+     * @throws IllegalArgumentException if no bounds are given, or they are not positive and strictly ascending.
+     */
+    public static Function<ElectricAppliance, String> byPowerBucket(int... bounds) {
+        if (bounds == null || bounds.length == 0) {
+            throw new IllegalArgumentException("At least one power bucket bound is required.");
+        }
+        for (int i = 0; i < bounds.length; i++) {
+            if (bounds[i] <= 0 || (i > 0 && bounds[i] <= bounds[i - 1])) {
+                throw new IllegalArgumentException("Power bucket bounds must be positive and strictly ascending.");
+            }
+        }
+
+        int[] sortedBounds = bounds.clone();
+        String[] labels = new String[sortedBounds.length + 1];
+        int lower = 0;
+        for (int i = 0; i < sortedBounds.length; i++) {
+            labels[i] = "[" + lower + ", " + sortedBounds[i] + ")";
+            lower = sortedBounds[i];
+        }
+        labels[sortedBounds.length] = "[" + lower + ", +inf)";
+
+        return appliance -> labels[bucketIndex(Arrays.binarySearch(sortedBounds, appliance.getPowerConsumptionW()))];
+    }
+
+    /**
+     * Groups appliances into electromagnetic radiation buckets. For bounds {@code 1.0, 5.0} the buckets are
+     * {@code "[0.0, 1.0)"}, {@code "[1.0, 5.0)"} and {@code "[5.0, +inf)"}.
+     * @param bounds The bucket boundaries, strictly ascending and positive.
+     * @return A classifier returning the label of the bucket the appliance's EMR level falls into.
+     * @throws IllegalArgumentException if no bounds are given, or they are not positive and strictly ascending.
+     */
+    public static Function<ElectricAppliance, String> byEmrBucket(double... bounds) {
+        if (bounds == null || bounds.length == 0) {
+            throw new IllegalArgumentException("At least one EMR bucket bound is required.");
+        }
+        for (int i = 0; i < bounds.length; i++) {
+            if (!(bounds[i] > 0) || Double.isInfinite(bounds[i]) || (i > 0 && bounds[i] <= bounds[i - 1])) {
+                throw new IllegalArgumentException("EMR bucket bounds must be positive and strictly ascending.");
+            }
+        }
+
+        double[] sortedBounds = bounds.clone();
+        String[] labels = new String[sortedBounds.length + 1];
+        double lower = 0.0;
+        for (int i = 0; i < sortedBounds.length; i++) {
+            labels[i] = "[" + lower + ", " + sortedBounds[i] + ")";
+            lower = sortedBounds[i];
+        }
+        labels[sortedBounds.length] = "[" + lower + ", +inf)";
+
+        return appliance -> labels[bucketIndex(
+                Arrays.binarySearch(sortedBounds, appliance.getElectromagneticRadiationLevel()))];
+    }
+
+    /**
+     * Combines several classifiers into one whose key is the list of the individual keys,
+     * e.g. grouping by type and plug state at the same time.
+     * @param classifiers The classifiers to combine.
+     * @return A classifier returning a list with one key per given classifier.
+     * @throws IllegalArgumentException if no classifiers are given.
+     * @throws NullPointerException if any classifier is null, or (when applied) returns a null key.
+     */
+    @SafeVarargs
+    public static Function<ElectricAppliance, List<Object>> combine(
+            Function<? super ElectricAppliance, ?>... classifiers) {
+        if (classifiers == null || classifiers.length == 0) {
+            throw new IllegalArgumentException("At least one classifier is required.");
+        }
+        // Copy element by element so the varargs array itself never escapes this method
+        List<Function<? super ElectricAppliance, ?>> parts = new ArrayList<>(classifiers.length);
+        for (Function<? super ElectricAppliance, ?> classifier : classifiers) {
+            if (classifier == null) {
+                throw new NullPointerException("Classifier must not be null.");
+            }
+            parts.add(classifier);
+        }
+
+        return appliance -> {
+            Object[] keys = new Object[parts.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = parts.get(i).apply(appliance);
+                if (keys[i] == null) {
+                    throw new NullPointerException("Classifier returned a null key for " + appliance.getName());
+                }
+            }
+            return List.of(keys);
+        };
+    }
+
+    /**
+     * Converts a binary search result over bucket bounds into a bucket index.
+     * A value equal to a bound belongs to the bucket starting at that bound.
+     * @param searchResult The result of {@code Arrays.binarySearch} over the bounds.
+     * @return The index of the bucket.
+     */
+    private static int bucketIndex(int searchResult) {
+        return searchResult >= 0 ? searchResult + 1 : -searchResult - 1;
+    }
+}
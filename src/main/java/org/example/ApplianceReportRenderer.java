@@ -0,0 +1,166 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Renders appliance listings in bulk, one {@link ElectricAppliance#toString()} line per appliance.
+ * Lines are built in a reusable StringBuilder with {@link ElectricAppliance#appendTo}, encoded into a reusable
+ * ByteBuffer and streamed to a channel, so the output is byte-identical to printing every appliance with
+ * {@code println} but without per-appliance String allocations.
+ * Appliance classes that still override {@code toString()} instead of
+ * {@link ElectricAppliance#appendTypeDetails} are rendered through their {@code toString()}, so their lines
+ * match {@code println} as well, at the cost of one String per line.
+ * A renderer keeps mutable buffers and is not thread-safe.
+ */
+public class ApplianceReportRenderer {
+    /** The default size of the output byte buffer. */
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    /** Whether an appliance class overrides {@code toString()}, so {@code appendTo} may not match it. */
+    private static final ClassValue<Boolean> OVERRIDES_TO_STRING = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("toString").getDeclaringClass() != ElectricAppliance.class;
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
+    /** The reusable builder holding the line currently being rendered. */
+    private final StringBuilder line;
+    /** The reusable byte buffer collecting encoded output before it is written to the channel. */
+    private final ByteBuffer output;
+    /** The encoder converting rendered characters into bytes. */
+    private final CharsetEncoder encoder;
+    /** The line separator appended after each appliance (same as {@code println}). */
+    private final String lineSeparator;
+    /** The reusable character array the current line is copied into for encoding. */
+    private char[] chars;
+    /** The view over {@link #chars} passed to the encoder. */
+    private CharBuffer charView;
+
+    /**
+     * Creates a renderer producing UTF-8 output with the default buffer size.
+     */
+    public ApplianceReportRenderer() {
+        this(StandardCharsets.UTF_8, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a renderer producing output in the given charset.
+     * @param charset The charset used to encode the report (e.g., {@code System.out.charset()}).
+     * @param bufferSize The size of the output byte buffer in bytes.
+     * @throws NullPointerException if the charset is null.
+     * @throws IllegalArgumentException if the buffer size is too small to hold a single encoded character.
+     */
+    public ApplianceReportRenderer(Charset charset, int bufferSize) {
+        if (charset == null) {
+            throw new NullPointerException("Charset must not be null.");
+        }
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        if (bufferSize < encoder.maxBytesPerChar() * 2) {
+            throw new IllegalArgumentException("Buffer size is too small: " + bufferSize);
+        }
+
+        this.line = new StringBuilder(128);
+        this.output = ByteBuffer.allocate(bufferSize);
+        this.lineSeparator = System.lineSeparator();
+        this.chars = new char[128];
+        this.charView = CharBuffer.wrap(chars);
+    }
+
+    /**
+     * Writes one line per appliance to the channel, in iteration order.
+     * @param appliances The appliances to render.
+     * @param channel The destination channel.
+     * @return The number of appliances written.
+     * If rendering fails partway, the lines already written stay in the channel and the unwritten rest
+     * is discarded; the renderer can be reused for the next report.
+     * @throws IOException if writing to the channel fails.
+     * @throws NullPointerException if the appliances or the channel are null.
+     */
+    public long render(Iterable<? extends ElectricAppliance> appliances, WritableByteChannel channel)
+            throws IOException {
+        if (appliances == null || channel == null) {
+            throw new NullPointerException("Appliances and channel must not be null.");
+        }
+
+        long count = 0;
+        // Discard anything left over from a render that failed partway (element or channel exception)
+        encoder.reset();
+        output.clear();
+        for (ElectricAppliance appliance : appliances) {
+            line.setLength(0);
+            if (OVERRIDES_TO_STRING.get(appliance.getClass())) {
+                line.append(appliance.toString());
+            } else {
+                appliance.appendTo(line);
+            }
+            line.append(lineSeparator);
+            encodeLine(channel);
+            count++;
+        }
+
+        charView.limit(0);
+        encode(channel, true);
+        while (encoder.flush(output).isOverflow()) {
+            drain(channel);
+        }
+        drain(channel);
+        return count;
+    }
+
+    /**
+     * Copies the current line into the reusable character array and encodes it into the output buffer.
+     * @param channel The channel receiving the output when the buffer fills up.
+     * @throws IOException if writing to the channel fails.
+     */
+    private void encodeLine(WritableByteChannel channel) throws IOException {
+        int length = line.length();
+        if (length > chars.length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+            charView = CharBuffer.wrap(chars);
+        }
+        line.getChars(0, length, chars, 0);
+        charView.clear().limit(length);
+        encode(channel, false);
+    }
+
+    /**
+     * Encodes the remaining characters of {@link #charView}, draining the output buffer whenever it is full.
+     * @param channel The channel receiving the output.
+     * @param endOfInput Whether no further characters will follow.
+     * @throws IOException if writing to the channel fails.
+     */
+    private void encode(WritableByteChannel channel, boolean endOfInput) throws IOException {
+        CoderResult result = encoder.encode(charView, output, endOfInput);
+        while (result.isOverflow()) {
+            drain(channel);
+            result = encoder.encode(charView, output, endOfInput);
+        }
+    }
+
+    /**
+     * Writes all buffered bytes to the channel and clears the output buffer.
+     * @param channel The destination channel.
+     * @throws IOException if writing to the channel fails.
+     */
+    private void drain(WritableByteChannel channel) throws IOException {
+        output.flip();
+        while (output.hasRemaining()) {
+            channel.write(output);
+        }
+        output.clear();
+    }
+}
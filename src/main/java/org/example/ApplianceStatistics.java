@@ -0,0 +1,132 @@
+package org.example;
+
+import java.util.Locale;
+
+/**
+ * Accumulates summary statistics (count, sum, min, max and mean) of power consumption
+ * and electromagnetic radiation level over a group of appliances.
+ * Instances are filled by {@link ApartmentApplianceManager#aggregateBy} and are read-only for callers.
+ */
+public class ApplianceStatistics {
+    /** The number of appliances in the group. */
+    private long count;
+    /** The sum of power consumption of all appliances in the group, in Watts. */
+    private long totalPowerW;
+    /** The lowest power consumption in the group, in Watts. */
+    private int minPowerW = Integer.MAX_VALUE;
+    /** The highest power consumption in the group, in Watts. */
+    private int maxPowerW = Integer.MIN_VALUE;
+    /** The sum of the radiation levels of all appliances in the group. */
+    private double totalEmr;
+    /** The lowest radiation level in the group. */
+    private double minEmr = Double.POSITIVE_INFINITY;
+    /** The highest radiation level in the group. */
+    private double maxEmr = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Creates empty statistics; only the manager fills them.
+     */
+    ApplianceStatistics() {
+    }
+
+    /**
+     * Adds an appliance to the statistics.
+     * @param appliance The appliance to account for.
+     */
+    void accept(ElectricAppliance appliance) {
+        int power = appliance.getPowerConsumptionW();
+        double emr = appliance.getElectromagneticRadiationLevel();
+
+        count++;
+        totalPowerW += power;
+        minPowerW = Math.min(minPowerW, power);
+        maxPowerW = Math.max(maxPowerW, power);
+        totalEmr += emr;
+        minEmr = Math.min(minEmr, emr);
+        maxEmr = Math.max(maxEmr, emr);
+    }
+
+    /**
+     * Retrieves the number of appliances in the group.
+     * @return The number of appliances.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Retrieves the total power consumption of the group.
+     * @return The sum of power consumption in Watts.
+     */
+    public long getTotalPowerW() {
+        return totalPowerW;
+    }
+
+    /**
+     * Retrieves the lowest power consumption in the group.
+     * @return The minimum power in Watts, or 0 if the group is empty.
+     */
+    public int getMinPowerW() {
+        return count == 0 ? 0 : minPowerW;
+    }
+
+    /**
+     * Retrieves the highest power consumption in the group.
+     * @return The maximum power in Watts, or 0 if the group is empty.
+     */
+    public int getMaxPowerW() {
+        return count == 0 ? 0 : maxPowerW;
+    }
+
+    /**
+     * Retrieves the average power consumption of the group.
+     * @return The mean power in Watts, or 0 if the group is empty.
+     */
+    public double getAveragePowerW() {
+        return count == 0 ? 0 : (double) totalPowerW / count;
+    }
+
+    /**
+     * Retrieves the sum of the radiation levels of the group.
+     * @return The total electromagnetic radiation level.
+     */
+    public double getTotalEmr() {
+        return totalEmr;
+    }
+
+    /**
+     * Retrieves the lowest radiation level in the group.
+     * @return The minimum radiation level, or 0 if the group is empty.
+     */
+    public double getMinEmr() {
+        return count == 0 ? 0 : minEmr;
+    }
+
+    /**
+     * Retrieves the highest radiation level in the group.
+     * @return The maximum radiation level, or 0 if the group is empty.
+     */
+    public double getMaxEmr() {
+        return count == 0 ? 0 : maxEmr;
+    }
+
+    /**
+     * Retrieves the average radiation level of the group.
+     * @return The mean radiation level, or 0 if the group is empty.
+     */
+    public double getAverageEmr() {
+        return count == 0 ? 0 : totalEmr / count;
+    }
+
+    /**
+     * Provides a string representation of the statistics.
+     * @return A formatted string with power and EMR statistics.
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.US,
+                "Count: %d | Power: sum %dW, min %dW, max %dW, avg %.2fW | EMR: min %.2f, max %.2f, avg %.2f",
+                count, totalPowerW, getMinPowerW(), getMaxPowerW(), getAveragePowerW(),
+                getMinEmr(), getMaxEmr(), getAverageEmr());
+    }
+}
@@ -0,0 +1,297 @@
+package org.example;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Registry of appliance subtypes and their extension attributes, owned by an {@link ApartmentApplianceManager}.
+ * Two kinds of attributes are supported:
+ * <ul>
+ *     <li>Field attributes (e.g., "hasFreezer" for refrigerators) read a value the appliance already stores
+ *     through a getter on every access; nothing is cached.</li>
+ *     <li>Extension attributes are not stored on the appliance at all. Their values live only in a sparse side
+ *     table per type and attribute, filled lazily by the registered loader the first time a query needs
+ *     a value, or explicitly through {@link #setAttribute}.</li>
+ * </ul>
+ * Attributes registered for a type are inherited by its subclasses. Side tables only hold values of
+ * appliances managed by the owning manager and are cleared when an appliance is removed.
+ */
+public class ApplianceTypeRegistry {
+    /** Placeholder stored in side tables for attributes whose value is null. */
+    private static final Object NULL_VALUE = new Object();
+
+    /** The attributes registered directly on every registered type, keyed by the appliance class. */
+    private final Map<Class<? extends ElectricAppliance>, Map<String, AttributeColumn>> types;
+    /** Tells whether an appliance is managed by the owner; only such appliances get side table entries. */
+    private final Predicate<ElectricAppliance> ownership;
+
+    /**
+     * Creates an empty registry; registries are only created by the manager.
+     * @param ownership Tells whether an appliance is managed by the owning manager.
+     */
+    ApplianceTypeRegistry(Predicate<ElectricAppliance> ownership) {
+        this.types = new HashMap<>();
+        this.ownership = ownership;
+    }
+
+    /**
+     * Creates a registry with the built-in subtypes and their field attributes:
+     * Refrigerator ("hasFreezer"), Laptop ("screenSizeInches") and HairDryer ("speedSettings").
+     * @param ownership Tells whether an appliance is managed by the owning manager.
+     * @return A new registry with the built-in types registered.
+     */
+    static ApplianceTypeRegistry createDefault(Predicate<ElectricAppliance> ownership) {
+        ApplianceTypeRegistry registry = new ApplianceTypeRegistry(ownership);
+        registry.registerAttribute(Refrigerator.class, "hasFreezer", Refrigerator::isFreezerPresent);
+        registry.registerAttribute(Laptop.class, "screenSizeInches", Laptop::getScreenSizeInches);
+        registry.registerAttribute(HairDryer.class, "speedSettings", HairDryer::getSpeedSettings);
+        return registry;
+    }
+
+    /**
+     * Registers an appliance subtype without attributes. Registering a type twice has no effect.
+     * @param type The appliance class to register.
+     * @throws NullPointerException if the type is null.
+     */
+    public void registerType(Class<? extends ElectricAppliance> type) {
+        if (type == null) {
+            throw new NullPointerException("Appliance type must not be null.");
+        }
+        types.computeIfAbsent(type, t -> new LinkedHashMap<>());
+    }
+
+    /**
+     * Registers a field attribute: a value the appliance already stores, read through the given getter
+     * on every access without caching. The type is registered if needed.
+     * @param type The appliance class the attribute belongs to.
+     * @param name The name of the attribute (e.g., "hasFreezer").
+     * @param getter The function reading the attribute value from an appliance.
+     * @param <A> The appliance subtype.
+     * @throws NullPointerException if the type or the getter is null.
+     * @throws IllegalArgumentException if the name is empty or already used by the type or one of its superclasses.
+     */
+    public <A extends ElectricAppliance> void registerAttribute(Class<A> type, String name,
+                                                                Function<? super A, ?> getter) {
+        if (getter == null) {
+            throw new NullPointerException("Attribute getter must not be null.");
+        }
+        addColumn(type, name, new AttributeColumn(appliance -> getter.apply(type.cast(appliance)), false));
+    }
+
+    /**
+     * Registers an extension attribute stored only in this registry's side table. The loader is called
+     * the first time the attribute of a particular appliance is requested, and its result is kept in the
+     * side table until the appliance is removed from the manager. The type is registered if needed.
+     * @param type The appliance class the attribute belongs to.
+     * @param name The name of the attribute (e.g., "warrantyMonths").
+     * @param loader The function loading the initial attribute value of an appliance (may return null).
+     * @param <A> The appliance subtype.
+     * @throws NullPointerException if the type or the loader is null.
+     * @throws IllegalArgumentException if the name is empty or already used by the type or one of its superclasses.
+     */
+    public <A extends ElectricAppliance> void registerLazyAttribute(Class<A> type, String name,
+                                                                    Function<? super A, ?> loader) {
+        if (loader == null) {
+            throw new NullPointerException("Attribute loader must not be null.");
+        }
+        addColumn(type, name, new AttributeColumn(appliance -> loader.apply(type.cast(appliance)), true));
+    }
+
+    /**
+     * Checks whether the given class or one of its superclasses is registered.
+     * @param type The appliance class.
+     * @return {@code true} if the type is registered, {@code false} otherwise.
+     */
+    public boolean isRegistered(Class<? extends ElectricAppliance> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            if (types.containsKey(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the names of the attributes available for a type, including those inherited from its superclasses.
+     * @param type The appliance class.
+     * @return An unmodifiable set of attribute names, the type's own attributes first.
+     * @throws IllegalArgumentException if neither the type nor any of its superclasses is registered.
+     */
+    public Set<String> getAttributeNames(Class<? extends ElectricAppliance> type) {
+        if (!isRegistered(type)) {
+            throw new IllegalArgumentException("Appliance type is not registered: " + type.getSimpleName());
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            Map<String, AttributeColumn> columns = types.get(current);
+            if (columns != null) {
+                names.addAll(columns.keySet());
+            }
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Gets an attribute of an appliance. Field attributes are read from the appliance; extension attributes
+     * are loaded on first access and kept in the side table if the appliance is managed by the owner,
+     * or loaded without being stored otherwise.
+     * @param appliance The appliance whose attribute is requested.
+     * @param name The name of the attribute.
+     * @return The attribute value (may be null).
+     * @throws NullPointerException if the appliance is null.
+     * @throws IllegalArgumentException if the attribute is not registered for the appliance's type.
+     */
+    public Object getAttribute(ElectricAppliance appliance, String name) {
+        if (appliance == null) {
+            throw new NullPointerException("Appliance must not be null.");
+        }
+        AttributeColumn column = requireColumn(appliance.getClass(), name);
+        if (!column.stored || !ownership.test(appliance)) {
+            return column.loader.apply(appliance);
+        }
+
+        Object value = column.values.get(appliance);
+        if (value == null) {
+            value = column.loader.apply(appliance);
+            column.values.put(appliance, value == null ? NULL_VALUE : value);
+            return value;
+        }
+        return value == NULL_VALUE ? null : value;
+    }
+
+    /**
+     * Sets the value of an extension attribute of a managed appliance in the side table.
+     * @param appliance The appliance.
+     * @param name The name of the extension attribute.
+     * @param value The new value (may be null).
+     * @throws NullPointerException if the appliance is null.
+     * @throws IllegalArgumentException if the attribute is not a registered extension attribute of the
+     * appliance's type, or the appliance is not managed by the owner.
+     */
+    public void setAttribute(ElectricAppliance appliance, String name, Object value) {
+        if (appliance == null) {
+            throw new NullPointerException("Appliance must not be null.");
+        }
+        AttributeColumn column = requireColumn(appliance.getClass(), name);
+        if (!column.stored) {
+            throw new IllegalArgumentException("Attribute '" + name + "' is read from the appliance and cannot be set.");
+        }
+        if (!ownership.test(appliance)) {
+            throw new IllegalArgumentException(appliance.getName() + " is not managed by this manager.");
+        }
+        column.values.put(appliance, value == null ? NULL_VALUE : value);
+    }
+
+    /**
+     * Gets the number of values of an attribute currently held in its side table.
+     * Field attributes have no side table and always report 0.
+     * @param type The appliance class.
+     * @param name The name of the attribute.
+     * @return The number of stored values.
+     * @throws IllegalArgumentException if the attribute is not registered for the type.
+     */
+    public int getLoadedCount(Class<? extends ElectricAppliance> type, String name) {
+        AttributeColumn column = requireColumn(type, name);
+        return column.stored ? column.values.size() : 0;
+    }
+
+    /**
+     * Drops every stored attribute value of an appliance, including inherited attributes
+     * (e.g., when it is removed from the manager).
+     * @param appliance The appliance to evict.
+     */
+    void evict(ElectricAppliance appliance) {
+        for (Class<?> current = appliance.getClass(); current != null; current = current.getSuperclass()) {
+            Map<String, AttributeColumn> columns = types.get(current);
+            if (columns != null) {
+                for (AttributeColumn column : columns.values()) {
+                    if (column.stored) {
+                        column.values.remove(appliance);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Registers a column for a type after checking that its name is valid and not already in use.
+     * @param type The appliance class.
+     * @param name The name of the attribute.
+     * @param column The column to register.
+     * @throws NullPointerException if the type is null.
+     * @throws IllegalArgumentException if the name is empty or already used by the type or one of its superclasses.
+     */
+    private void addColumn(Class<? extends ElectricAppliance> type, String name, AttributeColumn column) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Attribute name must not be null or empty.");
+        }
+        registerType(type);
+        if (findColumn(type, name) != null) {
+            throw new IllegalArgumentException(
+                    "Attribute '" + name + "' is already registered for " + type.getSimpleName());
+        }
+        types.get(type).put(name, column);
+    }
+
+    /**
+     * Finds the column of an attribute, searching the type and then its superclasses.
+     * @param type The appliance class.
+     * @param name The name of the attribute.
+     * @return The attribute column, or null if it is not registered for the type or any superclass.
+     */
+    private AttributeColumn findColumn(Class<?> type, String name) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            Map<String, AttributeColumn> columns = types.get(current);
+            if (columns != null && columns.containsKey(name)) {
+                return columns.get(name);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the column of a registered attribute.
+     * @param type The appliance class.
+     * @param name The name of the attribute.
+     * @return The attribute column.
+     * @throws IllegalArgumentException if the attribute is not registered for the type or any superclass.
+     */
+    private AttributeColumn requireColumn(Class<?> type, String name) {
+        AttributeColumn column = findColumn(type, name);
+        if (column == null) {
+            throw new IllegalArgumentException(
+                    "Attribute '" + name + "' is not registered for " + type.getSimpleName());
+        }
+        return column;
+    }
+
+    /**
+     * One attribute of one type: either a field getter or a sparse side table with its loader.
+     */
+    private static final class AttributeColumn {
+        /** The function reading (field attributes) or initially loading (extension attributes) a value. */
+        private final Function<ElectricAppliance, ?> loader;
+        /** Whether values are kept in {@link #values}; false for field attributes. */
+        private final boolean stored;
+        /** The stored values keyed by appliance identity; only managed appliances that were queried are present. */
+        private final Map<ElectricAppliance, Object> values;
+
+        /**
+         * Creates an empty column.
+         * @param loader The function reading or loading the value of an appliance.
+         * @param stored Whether values are kept in the side table.
+         */
+        private AttributeColumn(Function<ElectricAppliance, ?> loader, boolean stored) {
+            this.loader = loader;
+            this.stored = stored;
+            this.values = stored ? new IdentityHashMap<>() : Collections.emptyMap();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package org.example;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * A node of an {@link ApplianceZoneMap}: the apartment, a circuit or a room.
+ * Every zone keeps incrementally updated aggregates over all appliances assigned to it or to any of its
+ * descendants (unassigned appliances are not counted anywhere, not even in the root), so load checks
+ * and EMR exposure lookups do not have to scan the appliance list.
+ */
+public class ApplianceZone {
+    /** Orders sibling zones by descending EMR exposure, the earlier created zone first on ties. */
+    private static final Comparator<ApplianceZone> BY_EXPOSURE_DESCENDING =
+            Comparator.comparingDouble((ApplianceZone zone) -> zone.emrExposure).reversed()
+                    .thenComparingInt(zone -> zone.siblingIndex);
+
+    /** The unique name of the zone within its map (e.g., "Kitchen" or "Circuit 1"). */
+    private final String name;
+    /** The enclosing zone, or null for the root of the map. */
+    private final ApplianceZone parent;
+    /** The position of the zone among the children of its parent, in creation order. */
+    private final int siblingIndex;
+    /** The direct sub-zones, keyed by name in creation order. */
+    private final Map<String, ApplianceZone> children;
+    /** The direct sub-zones ordered by descending EMR exposure; repositioned whenever a child's exposure changes. */
+    private final NavigableSet<ApplianceZone> childrenByExposure;
+    /** The maximum allowed plugged-in power in Watts, or 0 if the zone has no limit. */
+    private int capacityW;
+    /** The number of appliances assigned to this zone and its descendants. */
+    private int applianceCount;
+    /** The number of those appliances that are plugged in. */
+    private int pluggedInCount;
+    /** The total power of those appliances that are plugged in, in Watts. */
+    private long pluggedInPowerW;
+    /** The EMR exposure: the sum of the radiation levels of those appliances that are plugged in. */
+    private double emrExposure;
+    /** The first element of {@link #childrenByExposure}, or null if there are no children. */
+    private ApplianceZone highestEmrChild;
+
+    /**
+     * Constructor for ApplianceZone; zones are only created by the zone map.
+     * @param name The unique name of the zone.
+     * @param parent The enclosing zone, or null for the root.
+     */
+    ApplianceZone(String name, ApplianceZone parent) {
+        this.name = name;
+        this.parent = parent;
+        this.siblingIndex = parent == null ? 0 : parent.children.size();
+        this.children = new LinkedHashMap<>();
+        this.childrenByExposure = new TreeSet<>(BY_EXPOSURE_DESCENDING);
+        if (parent != null) {
+            parent.children.put(name, this);
+            parent.childrenByExposure.add(this);
+            parent.highestEmrChild = parent.childrenByExposure.first();
+        }
+    }
+
+    /**
+     * Retrieves the name of the zone.
+     * @return The zone name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the enclosing zone.
+     * @return The parent zone, or null for the root.
+     */
+    public ApplianceZone getParent() {
+        return parent;
+    }
+
+    /**
+     * Retrieves the direct sub-zones.
+     * @return An unmodifiable collection of child zones, in creation order.
+     */
+    public Collection<ApplianceZone> getChildren() {
+        return Collections.unmodifiableCollection(children.values());
+    }
+
+    /**
+     * Retrieves the maximum allowed plugged-in power of the zone.
+     * @return The capacity in Watts, or 0 if the zone has no limit.
+     */
+    public int getCapacityW() {
+        return capacityW;
+    }
+
+    /**
+     * Sets the maximum allowed plugged-in power of the zone (e.g., the rating of a circuit breaker).
+     * @param capacityW The capacity in Watts, or 0 to remove the limit.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public void setCapacityW(int capacityW) {
+        if (capacityW < 0) {
+            throw new IllegalArgumentException("Zone capacity cannot be negative.");
+        }
+        this.capacityW = capacityW;
+    }
+
+    /**
+     * Checks whether the plugged-in power exceeds the capacity of the zone.
+     * @return {@code true} if the zone has a capacity and it is exceeded, {@code false} otherwise.
+     */
+    public boolean isOverloaded() {
+        return capacityW > 0 && pluggedInPowerW > capacityW;
+    }
+
+    /**
+     * Retrieves the number of appliances assigned to this zone and its descendants.
+     * @return The number of appliances.
+     */
+    public int getApplianceCount() {
+        return applianceCount;
+    }
+
+    /**
+     * Retrieves the number of plugged-in appliances in this zone and its descendants.
+     * @return The number of plugged-in appliances.
+     */
+    public int getPluggedInCount() {
+        return pluggedInCount;
+    }
+
+    /**
+     * Retrieves the total power of the plugged-in appliances in this zone and its descendants.
+     * @return The plugged-in power in Watts.
+     */
+    public long getPluggedInPowerW() {
+        return pluggedInPowerW;
+    }
+
+    /**
+     * Retrieves the EMR exposure of the zone: the sum of the radiation levels of its plugged-in appliances,
+     * including those of its descendants.
+     * @return The EMR exposure.
+     */
+    public double getEmrExposure() {
+        return emrExposure;
+    }
+
+    /**
+     * Finds the direct sub-zone with the highest EMR exposure (e.g., the highest-EMR room of a circuit).
+     * The children are kept ordered by exposure, so every exposure change costs O(log k) for k siblings
+     * and this lookup takes constant time.
+     * @return The child zone with the highest exposure (the earliest created one on ties),
+     * or null if there are no children.
+     */
+    public ApplianceZone getHighestEmrChild() {
+        return highestEmrChild;
+    }
+
+    /**
+     * Applies a change of the assigned appliances to this zone and all of its ancestors.
+     * @param countDelta The change in the number of appliances.
+     * @param pluggedInDelta The change in the number of plugged-in appliances.
+     * @param powerDelta The change in plugged-in power, in Watts.
+     * @param emrDelta The change in EMR exposure.
+     */
+    void applyDelta(int countDelta, int pluggedInDelta, long powerDelta, double emrDelta) {
+        for (ApplianceZone zone = this; zone != null; zone = zone.parent) {
+            zone.applianceCount += countDelta;
+            zone.pluggedInCount += pluggedInDelta;
+            zone.pluggedInPowerW += powerDelta;
+            // Reset to an exact zero when nothing is plugged in, so rounding errors do not accumulate
+            double exposure = zone.pluggedInCount == 0 ? 0 : zone.emrExposure + emrDelta;
+            if (exposure != zone.emrExposure) {
+                if (zone.parent != null) {
+                    zone.parent.updateChildExposure(zone, exposure);
+                } else {
+                    zone.emrExposure = exposure;
+                }
+            }
+        }
+    }
+
+    /**
+     * Changes the exposure of a child and moves it to its new position in {@link #childrenByExposure}.
+     * @param child The child whose exposure changed.
+     * @param exposure The new exposure of the child.
+     */
+    private void updateChildExposure(ApplianceZone child, double exposure) {
+        // The child must leave the ordered set before its sort key changes
+        childrenByExposure.remove(child);
+        child.emrExposure = exposure;
+        childrenByExposure.add(child);
+        highestEmrChild = childrenByExposure.first();
+    }
+
+    /**
+     * Provides a string representation of the zone's aggregates.
+     * @return A formatted string with the zone name, load and EMR exposure.
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "%-15s | Appliances: %d (%d plugged in) | Load: %dW%s | EMR Exposure: %.2f",
+                name, applianceCount, pluggedInCount, pluggedInPowerW,
+                capacityW > 0 ? " of " + capacityW + "W" : "", emrExposure);
+    }
+}
@@ -0,0 +1,202 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Hierarchical partitioning of an apartment into zones such as circuits and rooms.
+ * Each appliance can be assigned to at most one zone, and its contribution is added to that zone and all
+ * of its ancestors. Aggregates are updated incrementally on assignment and on plug-in state changes,
+ * so per-zone queries take constant time.
+ * <p>
+ * Zones only cover assigned appliances, each counted once: the root zone aggregates the appliances assigned
+ * anywhere in the map, so its totals differ from the manager's totals (e.g.,
+ * {@link ApartmentApplianceManager#calculateTotalPluggedInPower()}) while some appliances are unassigned
+ * or an appliance was added to the manager more than once.
+ */
+public class ApplianceZoneMap {
+    /** The name of the root zone. */
+    public static final String ROOT_ZONE_NAME = "Apartment";
+
+    /** The root zone, the common ancestor of all zones of the apartment. */
+    private final ApplianceZone root;
+    /** All zones of the map, keyed by their unique name. */
+    private final Map<String, ApplianceZone> zonesByName;
+    /** The zone each assigned appliance belongs to, keyed by appliance identity. */
+    private final Map<ElectricAppliance, ApplianceZone> assignments;
+
+    /**
+     * Constructor for ApplianceZoneMap; zone maps are only created by the manager.
+     */
+    ApplianceZoneMap() {
+        this.root = new ApplianceZone(ROOT_ZONE_NAME, null);
+        this.zonesByName = new HashMap<>();
+        this.assignments = new IdentityHashMap<>();
+        zonesByName.put(ROOT_ZONE_NAME, root);
+    }
+
+    /**
+     * Gets the root zone, the common ancestor of all zones of the apartment.
+     * Its aggregates cover the appliances assigned to any zone of the map, counted once each.
+     * @return The root zone.
+     */
+    public ApplianceZone getRoot() {
+        return root;
+    }
+
+    /**
+     * Creates a zone directly under the root (e.g., a circuit or a room).
+     * @param name The unique name of the new zone.
+     * @return The created zone.
+     * @throws IllegalArgumentException if the name is empty or already used.
+     */
+    public ApplianceZone createZone(String name) {
+        return createZone(name, root);
+    }
+
+    /**
+     * Creates a zone under the given parent zone (e.g., a room on a circuit).
+     * @param name The unique name of the new zone.
+     * @param parent The enclosing zone.
+     * @return The created zone.
+     * @throws NullPointerException if the parent is null.
+     * @throws IllegalArgumentException if the name is empty or already used, or the parent belongs to another map.
+     */
+    public ApplianceZone createZone(String name, ApplianceZone parent) {
+        if (parent == null) {
+            throw new NullPointerException("Parent zone must not be null.");
+        }
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Zone name must not be null or empty.");
+        }
+        if (zonesByName.containsKey(name)) {
+            throw new IllegalArgumentException("Zone '" + name + "' already exists.");
+        }
+        if (zonesByName.get(parent.getName()) != parent) {
+            throw new IllegalArgumentException("Parent zone '" + parent.getName() + "' belongs to another map.");
+        }
+
+        ApplianceZone zone = new ApplianceZone(name, parent);
+        zonesByName.put(name, zone);
+        return zone;
+    }
+
+    /**
+     * Finds a zone by name.
+     * @param name The name of the zone.
+     * @return The zone with the given name.
+     * @throws NoSuchElementException if there is no such zone.
+     */
+    public ApplianceZone getZone(String name) {
+        ApplianceZone zone = zonesByName.get(name);
+        if (zone == null) {
+            throw new NoSuchElementException("No zone named '" + name + "'");
+        }
+        return zone;
+    }
+
+    /**
+     * Gets the zone an appliance is assigned to.
+     * @param appliance The appliance.
+     * @return The zone of the appliance, or null if it is not assigned.
+     */
+    public ApplianceZone getZoneOf(ElectricAppliance appliance) {
+        return assignments.get(appliance);
+    }
+
+    /**
+     * Gets the EMR exposure of every zone, including the root.
+     * @return A map from zone name to EMR exposure, in depth-first order starting at the root.
+     */
+    public Map<String, Double> getEmrExposureMap() {
+        Map<String, Double> exposure = new LinkedHashMap<>();
+        collectExposure(root, exposure);
+        return exposure;
+    }
+
+    /**
+     * Finds the zones whose plugged-in power exceeds their capacity.
+     * @return A list of overloaded zones (empty if there are none).
+     */
+    public List<ApplianceZone> findOverloadedZones() {
+        List<ApplianceZone> overloaded = new ArrayList<>();
+        for (ApplianceZone zone : zonesByName.values()) {
+            if (zone.isOverloaded()) {
+                overloaded.add(zone);
+            }
+        }
+        return overloaded;
+    }
+
+    /**
+     * Assigns an appliance to a zone, moving it out of its previous zone if it had one.
+     * @param appliance The appliance to assign.
+     * @param zone The target zone, which must belong to this map.
+     * @throws IllegalArgumentException if the zone belongs to another map.
+     */
+    void assign(ElectricAppliance appliance, ApplianceZone zone) {
+        if (zonesByName.get(zone.getName()) != zone) {
+            throw new IllegalArgumentException("Zone '" + zone.getName() + "' belongs to another map.");
+        }
+        unassign(appliance);
+        assignments.put(appliance, zone);
+        applyContribution(zone, appliance, 1);
+    }
+
+    /**
+     * Removes an appliance from its zone, if it is assigned.
+     * @param appliance The appliance to unassign.
+     */
+    void unassign(ElectricAppliance appliance) {
+        ApplianceZone previous = assignments.remove(appliance);
+        if (previous != null) {
+            applyContribution(previous, appliance, -1);
+        }
+    }
+
+    /**
+     * Updates the aggregates of the appliance's zone after its plug-in state changed.
+     * @param appliance The appliance whose state changed.
+     * @param pluggedIn The new plug-in state.
+     */
+    void plugStateChanged(ElectricAppliance appliance, boolean pluggedIn) {
+        ApplianceZone zone = assignments.get(appliance);
+        if (zone != null) {
+            int sign = pluggedIn ? 1 : -1;
+            zone.applyDelta(0, sign, (long) sign * appliance.getPowerConsumptionW(),
+                    sign * appliance.getElectromagneticRadiationLevel());
+        }
+    }
+
+    /**
+     * Adds or subtracts an appliance's contribution to a zone and its ancestors.
+     * @param zone The zone of the appliance.
+     * @param appliance The appliance.
+     * @param sign 1 to add the contribution, -1 to subtract it.
+     */
+    private void applyContribution(ApplianceZone zone, ElectricAppliance appliance, int sign) {
+        if (appliance.isPluggedIn()) {
+            zone.applyDelta(sign, sign, (long) sign * appliance.getPowerConsumptionW(),
+                    sign * appliance.getElectromagneticRadiationLevel());
+        } else {
+            zone.applyDelta(sign, 0, 0, 0);
+        }
+    }
+
+    /**
+     * Collects the EMR exposure of a zone and its descendants in depth-first order.
+     * @param zone The zone to start from.
+     * @param exposure The map to fill.
+     */
+    private void collectExposure(ApplianceZone zone, Map<String, Double> exposure) {
+        exposure.put(zone.getName(), zone.getEmrExposure());
+        for (ApplianceZone child : zone.getChildren()) {
+            collectExposure(child, exposure);
+        }
+    }
+}
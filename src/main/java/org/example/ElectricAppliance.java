@@ -1,6 +1,7 @@
 package org.example;
 
-import java.util.Locale;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Abstract base class representing a generic electric appliance.
@@ -16,6 +17,8 @@ public abstract class ElectricAppliance {
     private boolean isPluggedIn;
     /** The level of electromagnetic radiation emitted (Unitless scale, e.g., 0.0 to 10.0). */
     private final double electromagneticRadiationLevel;
+    /** Listeners notified when the plug-in state changes; created on first registration. */
+    private List<PlugStateListener> plugStateListeners;
 
     /**
      * Constructor for the ElectricAppliance class.
@@ -49,6 +52,7 @@ public abstract class ElectricAppliance {
         if (!isPluggedIn) {
             isPluggedIn = true;
             System.out.println(name + " is now plugged in.");
+            notifyPlugStateListeners();
         } else {
             System.out.println(name + " is already plugged in.");
         }
@@ -61,11 +65,46 @@ public abstract class ElectricAppliance {
         if (isPluggedIn) {
             isPluggedIn = false;
             System.out.println(name + " is now unplugged.");
+            notifyPlugStateListeners();
         } else {
             System.out.println(name + " is already unplugged.");
         }
     }
 
+    /**
+     * Registers a listener notified whenever the plug-in state changes.
+     * The appliance holds the listener strongly until it is removed again.
+     * @param listener The listener to add.
+     */
+    void addPlugStateListener(PlugStateListener listener) {
+        if (plugStateListeners == null) {
+            plugStateListeners = new ArrayList<>(1);
+        }
+        plugStateListeners.add(listener);
+    }
+
+    /**
+     * Unregisters a previously added plug-in state listener.
+     * @param listener The listener to remove.
+     */
+    void removePlugStateListener(PlugStateListener listener) {
+        if (plugStateListeners != null) {
+            plugStateListeners.remove(listener);
+        }
+    }
+
+    /**
+     * Notifies all registered listeners about the current plug-in state.
+     */
+    private void notifyPlugStateListeners() {
+        if (plugStateListeners == null) {
+            return;
+        }
+        for (PlugStateListener listener : plugStateListeners) {
+            listener.plugStateChanged(this, isPluggedIn);
+        }
+    }
+
     /**
      * Retrieves the name of the appliance.
      * @return The name of the appliance.
@@ -98,13 +137,41 @@ public abstract class ElectricAppliance {
         return electromagneticRadiationLevel;
     }
 
+    /**
+     * Appends the appliance's state to the given builder in the report format
+     * used by {@link #toString()}, without creating intermediate strings.
+     * All numbers are written with ASCII digits (as with {@link java.util.Locale#US}), whatever the default
+     * locale. Subclasses customize the line through {@link #appendTypeDetails}; a subclass that overrides
+     * {@code toString()} instead is not reflected here.
+     * @param sb The builder to append to.
+     */
+    public void appendTo(StringBuilder sb) {
+        FixedWidthFormat.appendLeftAligned(sb, name, 15);
+        sb.append(" | Power: ");
+        FixedWidthFormat.appendRightAligned(sb, powerConsumptionW, 4);
+        sb.append("W | Plugged: ");
+        FixedWidthFormat.appendLeftAligned(sb, isPluggedIn ? "Yes" : "No", 5);
+        sb.append(" | EMR Level: ");
+        FixedWidthFormat.appendTwoDecimals(sb, electromagneticRadiationLevel);
+        appendTypeDetails(sb);
+    }
+
+    /**
+     * Appends the subclass-specific part of the report line (e.g., " | Type: Laptop (Screen: 16\")").
+     * The base implementation appends nothing.
+     * @param sb The builder to append to.
+     */
+    protected void appendTypeDetails(StringBuilder sb) {
+    }
+
     /**
      * Provides a string representation of the appliance's state.
      * @return A formatted string with appliance details.
      */
     @Override
     public String toString() {
-        return String.format(Locale.US, "%-15s | Power: %4dW | Plugged: %-5s | EMR Level: %.2f",
-                name, powerConsumptionW, (isPluggedIn ? "Yes" : "No"), electromagneticRadiationLevel);
+        StringBuilder sb = new StringBuilder(96);
+        appendTo(sb);
+        return sb.toString();
     }
 }
@@ -0,0 +1,104 @@
+package org.example;
+
+import java.util.Locale;
+
+/**
+ * Hand-rolled fixed-width formatting helpers that append directly to a {@link StringBuilder}.
+ * Produces the same output as the corresponding {@code String.format} patterns
+ * ({@code %-Ns}, {@code %Nd}, {@code %.2f} with {@link Locale#US}) without parsing a format string.
+ */
+final class FixedWidthFormat {
+    /** Largest value handled by the fast two-decimal path; bigger values fall back to String.format. */
+    private static final double FAST_PATH_LIMIT = 1_000_000.0;
+    /** Distance from a rounding tie below which the fast two-decimal path is not trusted. */
+    private static final double TIE_TOLERANCE = 1e-6;
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private FixedWidthFormat() {
+    }
+
+    /**
+     * Appends the text padded with trailing spaces to the given width (equivalent to {@code %-Ns}).
+     * Text longer than the width is appended unchanged.
+     * @param sb The builder to append to.
+     * @param text The text to append.
+     * @param width The minimum width of the field.
+     */
+    static void appendLeftAligned(StringBuilder sb, String text, int width) {
+        sb.append(text);
+        appendSpaces(sb, width - text.length());
+    }
+
+    /**
+     * Appends the integer padded with leading spaces to the given width (equivalent to {@code %Nd}).
+     * @param sb The builder to append to.
+     * @param value The integer to append.
+     * @param width The minimum width of the field.
+     */
+    static void appendRightAligned(StringBuilder sb, int value, int width) {
+        appendSpaces(sb, width - decimalLength(value));
+        sb.append(value);
+    }
+
+    /**
+     * Appends the value rounded half-up to two decimal places (equivalent to {@code %.2f} with
+     * {@link Locale#US}). Values that are non-finite, negative (including {@code -0.0}), very large or
+     * too close to a rounding tie are delegated to {@code String.format} so the output stays identical.
+     * @param sb The builder to append to.
+     * @param value The value to append.
+     */
+    static void appendTwoDecimals(StringBuilder sb, double value) {
+        // The sign bit check sends -0.0 to the fallback, which prints it as "-0.00"
+        if (Double.doubleToRawLongBits(value) < 0 || !(value < FAST_PATH_LIMIT)) {
+            sb.append(String.format(Locale.US, "%.2f", value));
+            return;
+        }
+
+        double scaled = value * 100;
+        long cents = (long) scaled;
+        double fraction = scaled - cents;
+        if (Math.abs(fraction - 0.5) < TIE_TOLERANCE) {
+            // Formatter rounds the shortest decimal representation, so ties need its exact rules
+            sb.append(String.format(Locale.US, "%.2f", value));
+            return;
+        }
+        if (fraction > 0.5) {
+            cents++;
+        }
+
+        long remainder = cents % 100;
+        sb.append(cents / 100).append('.');
+        if (remainder < 10) {
+            sb.append('0');
+        }
+        sb.append(remainder);
+    }
+
+    /**
+     * Appends the given number of spaces; non-positive counts append nothing.
+     * @param sb The builder to append to.
+     * @param count The number of spaces.
+     */
+    private static void appendSpaces(StringBuilder sb, int count) {
+        for (int i = 0; i < count; i++) {
+            sb.append(' ');
+        }
+    }
+
+    /**
+     * Computes the number of characters in the decimal representation of an integer, including the sign.
+     * @param value The integer.
+     * @return The length of {@code Integer.toString(value)}.
+     */
+    private static int decimalLength(int value) {
+        long remaining = Math.abs((long) value);
+        int length = value < 0 ? 2 : 1;
+        while (remaining >= 10) {
+            remaining /= 10;
+            length++;
+        }
+        return length;
+    }
+}
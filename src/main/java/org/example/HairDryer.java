@@ -33,11 +33,11 @@ public class HairDryer extends ElectricAppliance {
     }
 
     /**
-     * Provides a string representation of the HairDryer, including speed settings count.
-     * @return A formatted string with appliance and HairDryer details.
+     * Appends the hair dryer type and speed settings count to the report line.
+     * @param sb The builder to append to.
      */
     @Override
-    public String toString() {
-        return super.toString() + String.format(" | Type: Hair Dryer (Speeds: %d)", speedSettings);
+    protected void appendTypeDetails(StringBuilder sb) {
+        sb.append(" | Type: Hair Dryer (Speeds: ").append(speedSettings).append(')');
     }
 }
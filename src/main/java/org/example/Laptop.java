@@ -33,11 +33,11 @@ public class Laptop extends ElectricAppliance {
     }
 
     /**
-     * Provides a string representation of the Laptop, including screen size.
-     * @return A formatted string with appliance and Laptop details.
+     * Appends the laptop type and screen size to the report line.
+     * @param sb The builder to append to.
      */
     @Override
-    public String toString() {
-        return super.toString() + String.format(" | Type: Laptop (Screen: %d\")", screenSizeInches);
+    protected void appendTypeDetails(StringBuilder sb) {
+        sb.append(" | Type: Laptop (Screen: ").append(screenSizeInches).append("\")");
     }
 }
@@ -1,5 +1,8 @@
 package org.example;
 
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -12,6 +15,11 @@ public class Main {
 
     /** The central manager instance used across all demonstration methods. */
     private static ApartmentApplianceManager manager;
+    /** Renderer used to print appliance listings to the console in the console's charset. */
+    private static final ApplianceReportRenderer renderer =
+            new ApplianceReportRenderer(System.out.charset(), 8 * 1024);
+    /** Channel view of the standard output stream used by the renderer. */
+    private static final WritableByteChannel console = Channels.newChannel(System.out);
 
     /**
      * Initializes the ApartmentApplianceManager and adds sample appliances.
@@ -49,6 +57,19 @@ public class Main {
         }
     }
 
+    /**
+     * Prints one line per appliance through the bulk report renderer.
+     * @param list The appliances to print.
+     */
+    private static void printAppliances(List<ElectricAppliance> list) {
+        try {
+            renderer.render(list, console);
+            System.out.flush();
+        } catch (IOException e) {
+            System.err.println("Failed to print appliances (Handled): " + e.getMessage());
+        }
+    }
+
     /**
      * Prints the initial state of the appliances and demonstrates casting to subclasses
      * to access specific getters (e.g., hasFreezer, getScreenSizeInches).
@@ -56,7 +77,7 @@ public class Main {
     private static void demonstrateInitialStateAndSubclassGetters() {
         // Print initial state
         System.out.println("\n--- 2. Initial State of Appliances ---");
-        manager.getAllAppliances().forEach(System.out::println);
+        printAppliances(manager.getAllAppliances());
 
         // We use streams and filter by type to safely retrieve one instance of each subclass
         try {
@@ -115,7 +136,7 @@ public class Main {
         // --- Operation 3: Sort Appliances by Power ---
         System.out.println("\n--- 5. Sorting Appliances by Power Consumption (Ascending) ---");
         List<ElectricAppliance> sortedList = manager.sortByPower();
-        sortedList.forEach(System.out::println);
+        printAppliances(sortedList);
     }
 
     /**
@@ -131,14 +152,14 @@ public class Main {
             double maxEMR = 4.0;
             System.out.printf("Searching for EMR between %.2f and %.2f\n", minEMR, maxEMR);
             List<ElectricAppliance> found = manager.findByRadiationRange(minEMR, maxEMR);
-            found.forEach(System.out::println);
+            printAppliances(found);
 
             // Successful search demonstration (High EMR)
             double highMinEMR = 5.0;
             double highMaxEMR = 10.0;
             System.out.printf("\nSearching for EMR between %.2f and %.2f\n", highMinEMR, highMaxEMR);
             List<ElectricAppliance> highEMRFound = manager.findByRadiationRange(highMinEMR, highMaxEMR);
-            highEMRFound.forEach(System.out::println);
+            printAppliances(highEMRFound);
 
             // Intentional NoSuchElementException (Search Failure)
             double failureMinEMR = 6.0;
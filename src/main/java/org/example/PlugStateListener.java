@@ -0,0 +1,14 @@
+package org.example;
+
+/**
+ * Callback notified when an appliance is plugged in or unplugged.
+ * Used by containers that keep derived state (change feeds, aggregates) in sync with their appliances.
+ */
+interface PlugStateListener {
+    /**
+     * Called after the plug-in state of an appliance has actually changed.
+     * @param appliance The appliance whose state changed.
+     * @param pluggedIn The new state: {@code true} if it was plugged in, {@code false} if unplugged.
+     */
+    void plugStateChanged(ElectricAppliance appliance, boolean pluggedIn);
+}
@@ -28,11 +28,11 @@ public class Refrigerator extends ElectricAppliance {
     }
 
     /**
-     * Provides a string representation of the Refrigerator, including freezer status.
-     * @return A formatted string with appliance and Refrigerator details.
+     * Appends the refrigerator type and freezer status to the report line.
+     * @param sb The builder to append to.
      */
     @Override
-    public String toString() {
-        return super.toString() + String.format(" | Type: Refrigerator (Freezer: %s)", hasFreezer ? "Yes" : "No");
+    protected void appendTypeDetails(StringBuilder sb) {
+        sb.append(" | Type: Refrigerator (Freezer: ").append(hasFreezer ? "Yes" : "No").append(')');
     }
 }
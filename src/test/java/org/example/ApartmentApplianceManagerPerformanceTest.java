@@ -0,0 +1,450 @@
+package org.example;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Scalability regression tests with latency and allocation budgets for the ApartmentApplianceManager.
+ * The managers hold up to one million appliances built from a fixed random seed, so every run works on
+ * the same data. Allocations are measured with the per-thread allocated bytes counter of ThreadMXBean.
+ * Excluded from the default build; run with {@code mvn test -Pperformance}.
+ */
+@Tag("performance")
+class ApartmentApplianceManagerPerformanceTest {
+
+    /** The number of appliances in the large manager. */
+    private static final int LARGE_SIZE = 1_000_000;
+    /** The number of appliances in the small manager used for scaling comparisons. */
+    private static final int SMALL_SIZE = 100_000;
+    /** The seed of the data generator; fixed so that every run uses the same appliances. */
+    private static final long SEED = 20251019L;
+    /** Names shared by the generated appliances to keep the heap footprint of the fixture small. */
+    private static final String[] NAMES = {"Fridge", "Freezer", "Laptop", "Notebook", "Hair Dryer", "Styler"};
+
+    private static com.sun.management.ThreadMXBean threadBean;
+    private static PrintStream originalOut;
+    private static ApartmentApplianceManager large;
+    private static ApartmentApplianceManager small;
+    private static List<ElectricAppliance> largeAppliances;
+
+    @BeforeAll
+    static void setUpAll() {
+        threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Allocated bytes counter is not supported.");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        // plugIn/unplug log every state change; keep the output of a million toggles out of the report
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        largeAppliances = generateAppliances(LARGE_SIZE, new Random(SEED));
+        large = buildManager(largeAppliances);
+        small = buildManager(generateAppliances(SMALL_SIZE, new Random(SEED)));
+
+        ApplianceZoneMap zones = large.getZoneMap();
+        ApplianceZone circuit = zones.createZone("Circuit 1");
+        for (int room = 0; room < 10; room++) {
+            zones.createZone("Room " + room, circuit);
+        }
+        for (int i = 0; i < largeAppliances.size(); i++) {
+            large.assignToZone(largeAppliances.get(i), "Room " + (i % 10));
+        }
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        if (originalOut != null) {
+            System.setOut(originalOut);
+        }
+    }
+
+    /**
+     * Generates appliances of all three types with random power and EMR levels; about half of them are plugged in.
+     */
+    private static List<ElectricAppliance> generateAppliances(int count, Random random) {
+        List<ElectricAppliance> generated = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = NAMES[random.nextInt(NAMES.length)];
+            int power = 10 + random.nextInt(2500);
+            double emr = random.nextDouble() * 10;
+            ElectricAppliance appliance = switch (i % 3) {
+                case 0 -> new Refrigerator(name, power, emr, random.nextBoolean());
+                case 1 -> new Laptop(name, power, emr, 11 + random.nextInt(8));
+                default -> new HairDryer(name, power, emr, 1 + random.nextInt(5));
+            };
+            if (random.nextBoolean()) {
+                appliance.plugIn();
+            }
+            generated.add(appliance);
+        }
+        return generated;
+    }
+
+    private static ApartmentApplianceManager buildManager(List<ElectricAppliance> appliances) {
+        ApartmentApplianceManager manager = new ApartmentApplianceManager();
+        for (ElectricAppliance appliance : appliances) {
+            manager.addAppliance(appliance);
+        }
+        return manager;
+    }
+
+    /**
+     * Runs the operation a few times to warm up the JIT, then returns the best of several timed runs in nanoseconds.
+     */
+    private static long bestTimeNanos(int runs, Runnable operation) {
+        for (int i = 0; i < 3; i++) {
+            operation.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * Runs the operation once on each of several freshly built managers, so operations that change the order
+     * of the list never see the result of a previous run. Building and closing the managers is not measured;
+     * the first run only warms up the JIT. Returns the best time in nanoseconds and stores the bytes
+     * allocated by the last run in {@code bytes[0]}.
+     */
+    private static long bestTimeOnFreshManager(int runs, List<ElectricAppliance> appliances,
+                                               Consumer<ApartmentApplianceManager> operation, long[] bytes) {
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run <= runs; run++) {
+            try (ApartmentApplianceManager manager = buildManager(appliances)) {
+                long before = threadBean.getCurrentThreadAllocatedBytes();
+                long start = System.nanoTime();
+                operation.accept(manager);
+                long nanos = System.nanoTime() - start;
+                bytes[0] = threadBean.getCurrentThreadAllocatedBytes() - before;
+                if (run > 0) {
+                    best = Math.min(best, nanos);
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread while running the (already warmed up) operation.
+     */
+    private static long allocatedBytes(Runnable operation) {
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        operation.run();
+        return threadBean.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    /**
+     * Channel that discards everything written to it and only counts the bytes.
+     */
+    private static final class CountingChannel implements WritableByteChannel {
+        private long bytes;
+
+        @Override
+        public int write(ByteBuffer src) {
+            int remaining = src.remaining();
+            src.position(src.limit());
+            bytes += remaining;
+            return remaining;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    // --- Test: Totals and zone aggregates (constant time) ---
+
+    @Test
+    void testTotalPluggedInPowerIsConstantTime() {
+        int calls = 1_000_000;
+        Runnable operation = () -> {
+            for (int i = 0; i < calls; i++) {
+                large.calculateTotalPluggedInPower();
+            }
+        };
+
+        // A scan of a million appliances per call would take milliseconds, not nanoseconds
+        assertTrue(bestTimeNanos(5, operation) / calls < 1_000, "calculateTotalPluggedInPower exceeds 1us per call");
+        assertTrue(allocatedBytes(operation) < 1024, "calculateTotalPluggedInPower must not allocate");
+
+        long expected = 0;
+        for (ElectricAppliance appliance : largeAppliances) {
+            if (appliance.isPluggedIn()) {
+                expected += appliance.getPowerConsumptionW();
+            }
+        }
+        assertEquals((int) expected, large.calculateTotalPluggedInPower());
+    }
+
+    @Test
+    void testZoneAggregatesAreConstantTime() {
+        ApplianceZone circuit = large.getZoneMap().getZone("Circuit 1");
+        int calls = 1_000_000;
+        Runnable operation = () -> {
+            for (int i = 0; i < calls; i++) {
+                circuit.getPluggedInPowerW();
+                circuit.isOverloaded();
+                circuit.getHighestEmrChild();
+            }
+        };
+
+        assertTrue(bestTimeNanos(5, operation) / calls < 1_000, "Zone lookups exceed 1us per call");
+        assertTrue(allocatedBytes(operation) < 1024, "Zone lookups must not allocate");
+        assertEquals(LARGE_SIZE, circuit.getApplianceCount());
+    }
+
+    // --- Test: Updates ---
+
+    @Test
+    void testAddApplianceBudget() {
+        List<ElectricAppliance> batch = generateAppliances(SMALL_SIZE, new Random(SEED + 1));
+        List<ApartmentApplianceManager> built = new ArrayList<>();
+        long[] bytes = new long[1];
+        try {
+            long nanos = bestTimeNanos(3, () -> bytes[0] = allocatedBytes(() -> built.add(buildManager(batch))));
+
+            assertTrue(nanos / SMALL_SIZE < 2_000, "addAppliance exceeds 2us per appliance");
+            // Change record, list/map growth and the appliance's listener list, amortized
+            assertTrue(bytes[0] / SMALL_SIZE < 512, "addAppliance exceeds 512 bytes per appliance: " + bytes[0]);
+        } finally {
+            // Detach the managers so the appliances do not keep notifying them
+            built.forEach(ApartmentApplianceManager::close);
+        }
+    }
+
+    @Test
+    void testRemoveApplianceBudget() {
+        // removeAppliance scans the backing list for the appliance and shifts the elements after it,
+        // so it is linear in the number of appliances; the budget pins that cost for 100k appliances
+        List<ElectricAppliance> batch = generateAppliances(SMALL_SIZE, new Random(SEED + 2));
+        int removals = 1_000;
+        try (ApartmentApplianceManager manager = buildManager(batch)) {
+            // Every run removes appliances spread over the list and adds them back at the end
+            Runnable operation = () -> {
+                for (int i = 0; i < removals; i++) {
+                    ElectricAppliance appliance = batch.get(i * (SMALL_SIZE / removals));
+                    manager.removeAppliance(appliance);
+                    manager.addAppliance(appliance);
+                }
+            };
+
+            assertTrue(bestTimeNanos(3, operation) / removals < 1_000_000,
+                    "removeAppliance exceeds 1ms per call for 100k appliances");
+            // Two change records per round trip; nothing proportional to the list size
+            long bytes = allocatedBytes(operation);
+            assertTrue(bytes / removals < 512, "removeAppliance exceeds 512 bytes per call: " + bytes);
+            assertEquals(SMALL_SIZE, manager.getAllAppliances().size());
+        }
+    }
+
+    @Test
+    void testAssignToZoneBudget() {
+        List<ElectricAppliance> batch = generateAppliances(SMALL_SIZE, new Random(SEED + 3));
+        try (ApartmentApplianceManager manager = buildManager(batch)) {
+            ApplianceZoneMap zones = manager.getZoneMap();
+            ApplianceZone circuit = zones.createZone("Circuit 1");
+            for (int room = 0; room < 10; room++) {
+                zones.createZone("Room " + room, circuit);
+            }
+            int[] shift = new int[1];
+            // Every run moves each appliance to another room
+            Runnable operation = () -> {
+                shift[0]++;
+                for (int i = 0; i < batch.size(); i++) {
+                    manager.assignToZone(batch.get(i), "Room " + ((i + shift[0]) % 10));
+                }
+            };
+
+            assertTrue(bestTimeNanos(3, operation) / SMALL_SIZE < 2_000, "assignToZone exceeds 2us per call");
+            // Includes the room name concatenation of the loop and repositioning the rooms by exposure
+            long bytes = allocatedBytes(operation);
+            assertTrue(bytes / SMALL_SIZE < 512, "assignToZone exceeds 512 bytes per call: " + bytes);
+            assertEquals(SMALL_SIZE, circuit.getApplianceCount());
+        }
+    }
+
+    @Test
+    void testCloseBudget() {
+        long[] bytes = new long[1];
+        long nanos = bestTimeOnFreshManager(3, largeAppliances.subList(0, SMALL_SIZE),
+                ApartmentApplianceManager::close, bytes);
+
+        assertTrue(nanos / SMALL_SIZE < 2_000, "close exceeds 2us per appliance");
+        // One removal change record per appliance
+        assertTrue(bytes[0] / SMALL_SIZE < 256, "close exceeds 256 bytes per appliance: " + bytes[0]);
+    }
+
+    @Test
+    void testPlugStateToggleBudget() {
+        ElectricAppliance appliance = largeAppliances.get(LARGE_SIZE / 2);
+        int toggles = 10_000;
+        Runnable operation = () -> {
+            for (int i = 0; i < toggles; i++) {
+                appliance.plugIn();
+                appliance.unplug();
+            }
+        };
+        boolean wasPluggedIn = appliance.isPluggedIn();
+
+        assertTrue(bestTimeNanos(5, operation) / (2L * toggles) < 10_000, "plugIn/unplug exceed 10us per call");
+        // Includes the console message and the published change record
+        assertTrue(allocatedBytes(operation) / (2L * toggles) < 1024, "plugIn/unplug exceed 1KB per call");
+
+        if (wasPluggedIn) {
+            appliance.plugIn();
+        }
+    }
+
+    // --- Test: Queries over the full list ---
+
+    @Test
+    void testFindByRadiationRangeScalesAtMostLinearly() {
+        long smallNanos = bestTimeNanos(5, () -> small.findByRadiationRange(4.0, 4.01));
+        long largeNanos = bestTimeNanos(5, () -> large.findByRadiationRange(4.0, 4.01));
+
+        assertTrue(largeNanos < 200_000_000L, "findByRadiationRange exceeds 200ms for 1M appliances");
+        // 10x more appliances must not cost more than 10x plus a margin for cache effects
+        assertTrue(largeNanos < smallNanos * 20, "findByRadiationRange scales worse than linearly");
+        // Only the matching appliances (about 0.1%) are copied
+        assertTrue(allocatedBytes(() -> large.findByRadiationRange(4.0, 4.01)) < 256 * 1024,
+                "findByRadiationRange allocates more than the result");
+    }
+
+    @Test
+    void testFindByAttributeBudget() {
+        Runnable operation = () -> large.findByAttribute(Laptop.class, "screenSizeInches",
+                size -> (Integer) size == 11);
+
+        assertTrue(bestTimeNanos(5, operation) < 200_000_000L, "findByAttribute exceeds 200ms for 1M appliances");
+        // Field attributes are read without caching; only the result list (about 4% of the laptops) grows
+        long bytes = allocatedBytes(operation);
+        assertTrue(bytes < 1024 * 1024, "findByAttribute allocates more than the result: " + bytes);
+        assertEquals(0, large.getTypeRegistry().getLoadedCount(Laptop.class, "screenSizeInches"));
+    }
+
+    @Test
+    void testAggregateBySinglePassBudget() {
+        long nanos = bestTimeNanos(5, () -> large.aggregateBy(ApplianceGroupings.byType()));
+        assertTrue(nanos < 200_000_000L, "aggregateBy exceeds 200ms for 1M appliances");
+
+        // One pass without copying: allocation depends on the number of groups, not on the number of appliances
+        assertTrue(allocatedBytes(() -> large.aggregateBy(ApplianceGroupings.byType())) < 16 * 1024,
+                "aggregateBy(byType) must not allocate per appliance");
+        Runnable byBucket = () -> large.aggregateBy(ApplianceGroupings.byPowerBucket(100, 500, 1000));
+        assertTrue(bestTimeNanos(5, byBucket) < 200_000_000L, "aggregateBy exceeds 200ms for 1M appliances");
+        long bytes = allocatedBytes(byBucket);
+        assertTrue(bytes < 16 * 1024, "aggregateBy(byPowerBucket) must not allocate per appliance: " + bytes);
+
+        assertTrue(bestTimeNanos(5, large::calculateStatistics) < 200_000_000L,
+                "calculateStatistics exceeds 200ms for 1M appliances");
+        assertTrue(allocatedBytes(large::calculateStatistics) < 1024,
+                "calculateStatistics must not allocate per appliance");
+
+        Map<Class<? extends ElectricAppliance>, ApplianceStatistics> byType =
+                large.aggregateBy(ApplianceGroupings.byType());
+        assertEquals(LARGE_SIZE, byType.values().stream().mapToLong(ApplianceStatistics::getCount).sum());
+    }
+
+    @Test
+    void testWriteReportBudget() {
+        CountingChannel channel = new CountingChannel();
+        long nanos = bestTimeNanos(3, () -> {
+            try {
+                large.writeReport(channel);
+            } catch (java.io.IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(nanos < 2_000_000_000L, "writeReport exceeds 2s for 1M appliances");
+
+        long bytes = allocatedBytes(() -> {
+            try {
+                large.writeReport(channel);
+            } catch (java.io.IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        // Buffers are reused; only the rare rounding ties fall back to String.format
+        assertTrue(bytes < 1024 * 1024, "writeReport exceeds 1MB of allocations for 1M appliances: " + bytes);
+    }
+
+    @Test
+    void testSnapshotAndSortBudgets() {
+        assertTrue(allocatedBytes(large::getAllAppliances) / LARGE_SIZE < 16,
+                "getAllAppliances exceeds 16 bytes per appliance");
+        assertTrue(bestTimeNanos(3, large::getAllAppliances) < 100_000_000L, "getAllAppliances exceeds 100ms");
+
+        // Every timed sort runs on a fresh manager in the random generation order, never on already sorted
+        // data (which TimSort handles in a single linear pass), and never on the shared fixture
+        long[] bytes = new long[1];
+        long nanos = bestTimeOnFreshManager(2, largeAppliances, ApartmentApplianceManager::sortByPower, bytes);
+        assertTrue(nanos < 3_000_000_000L, "sortByPower exceeds 3s for 1M unsorted appliances");
+        // The returned copy plus TimSort's merge buffer of up to n/2 references
+        assertTrue(bytes[0] / LARGE_SIZE < 32, "sortByPower exceeds 32 bytes per appliance: " + bytes[0]);
+    }
+
+    // --- Test: Change feed ---
+
+    @Test
+    void testSubscribeIsConstantTime() {
+        int calls = 100_000;
+        long latest = large.getChangeFeed().getLatestSequence();
+        Runnable operation = () -> {
+            for (int i = 0; i < calls; i++) {
+                large.subscribe(latest);
+                large.subscribe();
+            }
+        };
+
+        // Subscribing must not copy the appliances or the buffered changes
+        assertTrue(bestTimeNanos(5, operation) / (2L * calls) < 1_000, "subscribe exceeds 1us per call");
+        long bytes = allocatedBytes(operation);
+        assertTrue(bytes / (2L * calls) < 64, "subscribe exceeds 64 bytes per call: " + bytes);
+    }
+
+    @Test
+    void testChangeFeedWorkIsProportionalToChanges() {
+        ApplianceChangeSubscription subscription = large.subscribe(large.getChangeFeed().getLatestSequence());
+        int changes = 100;
+        for (int i = 0; i < changes; i++) {
+            ElectricAppliance appliance = largeAppliances.get(i);
+            if (appliance.isPluggedIn()) {
+                appliance.unplug();
+                appliance.plugIn();
+            } else {
+                appliance.plugIn();
+                appliance.unplug();
+            }
+        }
+
+        long[] received = new long[1];
+        long bytes = allocatedBytes(() -> received[0] = subscription.poll().getChanges().size());
+
+        assertEquals(2L * changes, received[0]);
+        // A batch of 200 changes must not depend on the million appliances in the manager
+        assertTrue(bytes < 16 * 1024, "Polling 200 changes exceeds 16KB: " + bytes);
+    }
+}
@@ -0,0 +1,136 @@
+package org.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the change feed and subscriptions of the ApartmentApplianceManager.
+ */
+class ApplianceChangeFeedTest {
+
+    private ApartmentApplianceManager manager;
+    private Refrigerator fridge;
+    private Laptop laptop;
+
+    @BeforeEach
+    void setUp() {
+        manager = new ApartmentApplianceManager(4);
+        fridge = new Refrigerator("Fridge_A", 150, 0.5, true);
+        laptop = new Laptop("Laptop_B", 60, 0.1, 16);
+    }
+
+    @Test
+    void testChangesArePublishedInOrder() {
+        ApplianceChangeSubscription subscription = manager.subscribe();
+
+        manager.addAppliance(fridge);
+        fridge.plugIn();
+        fridge.plugIn(); // Already plugged in, no change
+        fridge.unplug();
+        assertTrue(manager.removeAppliance(fridge));
+
+        ApplianceChangeBatch batch = subscription.poll();
+        assertFalse(batch.isSnapshot());
+        List<ApplianceChange> changes = batch.getChanges();
+        assertEquals(4, changes.size());
+        assertEquals(ApplianceChange.Type.ADDED, changes.get(0).getType());
+        assertEquals(ApplianceChange.Type.PLUGGED_IN, changes.get(1).getType());
+        assertEquals(ApplianceChange.Type.UNPLUGGED, changes.get(2).getType());
+        assertEquals(ApplianceChange.Type.REMOVED, changes.get(3).getType());
+        for (int i = 0; i < changes.size(); i++) {
+            assertEquals(i + 1, changes.get(i).getSequence());
+            assertSame(fridge, changes.get(i).getAppliance());
+        }
+        assertEquals(4, subscription.getLastSequence());
+
+        // Nothing new since the last poll
+        assertTrue(subscription.poll().getChanges().isEmpty());
+    }
+
+    @Test
+    void testRemovedApplianceIsNoLongerObserved() {
+        manager.addAppliance(fridge);
+        manager.removeAppliance(fridge);
+        long sequence = manager.getChangeFeed().getLatestSequence();
+
+        fridge.plugIn();
+        assertEquals(sequence, manager.getChangeFeed().getLatestSequence());
+        assertFalse(manager.removeAppliance(fridge));
+        assertTrue(manager.getAllAppliances().isEmpty());
+    }
+
+    @Test
+    void testResumeFromSequenceNumber() {
+        manager.addAppliance(fridge);
+        manager.addAppliance(laptop);
+        long resumeAfter = manager.getChangeFeed().getLatestSequence();
+        laptop.plugIn();
+
+        ApplianceChangeBatch batch = manager.subscribe(resumeAfter).poll();
+        assertEquals(1, batch.getChanges().size());
+        assertEquals(ApplianceChange.Type.PLUGGED_IN, batch.getChanges().get(0).getType());
+        assertSame(laptop, batch.getChanges().get(0).getAppliance());
+    }
+
+    @Test
+    void testSlowSubscriberFallsBackToSnapshot() {
+        ApplianceChangeSubscription slow = manager.subscribe();
+
+        // Six changes overflow the ring buffer of capacity 4
+        manager.addAppliance(fridge);
+        manager.addAppliance(laptop);
+        fridge.plugIn();
+        laptop.plugIn();
+        fridge.unplug();
+        laptop.unplug();
+
+        ApplianceChangeBatch batch = slow.poll();
+        assertTrue(batch.isSnapshot());
+        assertTrue(batch.getChanges().isEmpty());
+        assertEquals(List.of(fridge, laptop), batch.getSnapshot());
+        assertEquals(6, batch.getLastSequence());
+        assertEquals(3, manager.getChangeFeed().getOldestAvailableSequence());
+
+        // After the snapshot the subscriber continues with deltas
+        fridge.plugIn();
+        ApplianceChangeBatch next = slow.poll();
+        assertFalse(next.isSnapshot());
+        assertEquals(7, next.getChanges().get(0).getSequence());
+        assertThrows(IllegalStateException.class, next::getSnapshot);
+    }
+
+    @Test
+    void testCloseDetachesManagerFromAppliances() {
+        manager.addAppliance(fridge);
+        manager.addAppliance(laptop);
+        manager.getZoneMap().createZone("Kitchen");
+        manager.assignToZone(fridge, "Kitchen");
+        fridge.plugIn();
+        ApplianceChangeSubscription subscription = manager.subscribe(manager.getChangeFeed().getLatestSequence());
+
+        manager.close();
+
+        List<ApplianceChange> changes = subscription.poll().getChanges();
+        assertEquals(2, changes.size());
+        assertEquals(ApplianceChange.Type.REMOVED, changes.get(0).getType());
+        assertTrue(manager.getAllAppliances().isEmpty());
+        assertEquals(0, manager.getZoneMap().getRoot().getApplianceCount());
+
+        // Plug-in state changes no longer reach the closed manager
+        long sequence = manager.getChangeFeed().getLatestSequence();
+        fridge.unplug();
+        laptop.plugIn();
+        assertEquals(sequence, manager.getChangeFeed().getLatestSequence());
+        assertEquals(0, manager.calculateTotalPluggedInPower());
+    }
+
+    @Test
+    void testInvalidArgumentsThrowExceptions() {
+        assertThrows(IllegalArgumentException.class, () -> new ApartmentApplianceManager(0));
+        assertThrows(IllegalArgumentException.class, () -> manager.subscribe(1));
+        assertThrows(IllegalArgumentException.class, () -> manager.getChangeFeed().read(-1));
+        assertThrows(NullPointerException.class, () -> manager.removeAppliance(null));
+    }
+}
@@ -0,0 +1,174 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the bulk report renderer and the allocation-free toString formatting.
+ */
+class ApplianceReportRendererTest {
+
+    /**
+     * Builds the report line the way toString did before the hand-rolled formatter was introduced.
+     */
+    private static String legacyFormat(String name, int power, boolean plugged, double emr) {
+        return String.format(Locale.US, "%-15s | Power: %4dW | Plugged: %-5s | EMR Level: %.2f",
+                name, power, (plugged ? "Yes" : "No"), emr);
+    }
+
+    @Test
+    void testToStringMatchesLegacyFormatForSubclasses() {
+        Refrigerator fridge = new Refrigerator("Samsung Fridge", 150, 0.8, true);
+        Laptop laptop = new Laptop("MacBook Pro", 60, 0.2, 16);
+        HairDryer dryer = new HairDryer("Philips Hair Dryer", 1800, 5.5, 3);
+        dryer.plugIn();
+
+        assertEquals(legacyFormat("Samsung Fridge", 150, false, 0.8) + " | Type: Refrigerator (Freezer: Yes)",
+                fridge.toString());
+        assertEquals(legacyFormat("MacBook Pro", 60, false, 0.2) + " | Type: Laptop (Screen: 16\")",
+                laptop.toString());
+        assertEquals(legacyFormat("Philips Hair Dryer", 1800, true, 5.5) + " | Type: Hair Dryer (Speeds: 3)",
+                dryer.toString());
+    }
+
+    @Test
+    void testTwoDecimalRoundingMatchesStringFormat() {
+        // Ties and values near them must follow Formatter's half-up rules exactly
+        double[] edgeCases = {0.0, -0.0, 0.005, 0.015, 0.125, 1.005, 2.675, 1.115, 99.995, 0.0049999999999999,
+                0.29, 9.999, 123456.785, 999999.999, 1_000_000.0, 1e20, Double.MAX_VALUE, Double.NaN,
+                Double.POSITIVE_INFINITY};
+        for (double emr : edgeCases) {
+            StringBuilder sb = new StringBuilder();
+            FixedWidthFormat.appendTwoDecimals(sb, emr);
+            assertEquals(String.format(Locale.US, "%.2f", emr), sb.toString(), "EMR " + emr);
+        }
+
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            double emr = random.nextInt(1_000_000) / 1000.0 + (random.nextBoolean() ? random.nextDouble() : 0);
+            StringBuilder sb = new StringBuilder();
+            FixedWidthFormat.appendTwoDecimals(sb, emr);
+            assertEquals(String.format(Locale.US, "%.2f", emr), sb.toString(), "EMR " + emr);
+        }
+    }
+
+    @Test
+    void testFixedWidthFieldsMatchStringFormat() {
+        int[] values = {1, 9, 10, 999, 1000, 9999, 10000, 123456, Integer.MAX_VALUE, -5, Integer.MIN_VALUE};
+        for (int value : values) {
+            StringBuilder sb = new StringBuilder();
+            FixedWidthFormat.appendRightAligned(sb, value, 4);
+            assertEquals(String.format(Locale.US, "%4d", value), sb.toString());
+        }
+
+        StringBuilder sb = new StringBuilder();
+        FixedWidthFormat.appendLeftAligned(sb, "A name longer than fifteen", 15);
+        assertEquals(String.format("%-15s", "A name longer than fifteen"), sb.toString());
+    }
+
+    @Test
+    void testRenderIsByteIdenticalToPrintln() throws IOException {
+        List<ElectricAppliance> appliances = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            appliances.add(new Refrigerator("Fridge " + i, 50 + i, i / 7.0, i % 2 == 0));
+            appliances.add(new Laptop("Laptöp " + i, 30 + i, i / 13.0, 13 + i % 5));
+            appliances.add(new HairDryer("Dryer " + i, 1000 + i * 10, i / 3.0, 1 + i % 4));
+        }
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (ElectricAppliance appliance : appliances) {
+            expected.writeBytes((appliance + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+        }
+
+        // A small buffer forces many intermediate flushes to the channel
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        ApplianceReportRenderer renderer = new ApplianceReportRenderer(StandardCharsets.UTF_8, 64);
+        long written = renderer.render(appliances, Channels.newChannel(actual));
+
+        assertEquals(appliances.size(), written);
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    }
+
+    @Test
+    void testRenderUsesOverriddenToString() throws IOException {
+        ElectricAppliance legacy = new ElectricAppliance("Heater_L", 900, 1.5) {
+            @Override
+            public String toString() {
+                return super.toString() + " | Type: Heater";
+            }
+        };
+        List<ElectricAppliance> appliances = List.of(legacy, new Laptop("Laptop_A", 60, 0.1, 16));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ApplianceReportRenderer().render(appliances, Channels.newChannel(out));
+        assertEquals(legacy + System.lineSeparator() + appliances.get(1) + System.lineSeparator(),
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testRenderAfterFailureStartsWithEmptyBuffer() throws IOException {
+        Laptop ok = new Laptop("Laptop_A", 60, 0.1, 16);
+        String expected = ok + System.lineSeparator();
+        ApplianceReportRenderer renderer = new ApplianceReportRenderer();
+
+        // A null element fails the render after the first line was buffered
+        ByteArrayOutputStream failed = new ByteArrayOutputStream();
+        assertThrows(NullPointerException.class,
+                () -> renderer.render(Arrays.asList(ok, null), Channels.newChannel(failed)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(1, renderer.render(List.of(ok), Channels.newChannel(out)));
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+
+        // A channel failing on write leaves the buffer full
+        WritableByteChannel broken = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) throws IOException {
+                throw new IOException("Disk full");
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        assertThrows(IOException.class, () -> renderer.render(List.of(ok), broken));
+        ByteArrayOutputStream next = new ByteArrayOutputStream();
+        assertEquals(1, renderer.render(List.of(ok), Channels.newChannel(next)));
+        assertEquals(expected, next.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testManagerWriteReport() throws IOException {
+        ApartmentApplianceManager manager = new ApartmentApplianceManager();
+        Laptop laptop = new Laptop("Laptop_B", 60, 0.1, 16);
+        manager.addAppliance(laptop);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(1, manager.writeReport(Channels.newChannel(out)));
+        assertEquals(laptop + System.lineSeparator(), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testInvalidRendererArgumentsThrowException() {
+        assertThrows(NullPointerException.class, () -> new ApplianceReportRenderer(null, 1024));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ApplianceReportRenderer(StandardCharsets.UTF_8, 1));
+        assertThrows(NullPointerException.class,
+                () -> new ApplianceReportRenderer().render(new ArrayList<>(), null));
+    }
+}
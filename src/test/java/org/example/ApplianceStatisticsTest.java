@@ -0,0 +1,104 @@
+package org.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the grouped power and EMR statistics of the ApartmentApplianceManager.
+ */
+class ApplianceStatisticsTest {
+
+    private ApartmentApplianceManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new ApartmentApplianceManager();
+        Refrigerator fridge = new Refrigerator("Fridge_A", 150, 0.5, true);
+        Refrigerator miniFridge = new Refrigerator("Fridge_B", 80, 0.3, false);
+        Laptop laptop = new Laptop("Laptop_C", 60, 0.1, 16);
+        HairDryer dryer = new HairDryer("Dryer_D", 1800, 5.0, 3);
+
+        manager.addAppliance(fridge);
+        manager.addAppliance(miniFridge);
+        manager.addAppliance(laptop);
+        manager.addAppliance(dryer);
+
+        fridge.plugIn();
+        dryer.plugIn();
+    }
+
+    @Test
+    void testCalculateStatisticsOverAllAppliances() {
+        ApplianceStatistics stats = manager.calculateStatistics();
+
+        assertEquals(4, stats.getCount());
+        assertEquals(150 + 80 + 60 + 1800, stats.getTotalPowerW());
+        assertEquals(60, stats.getMinPowerW());
+        assertEquals(1800, stats.getMaxPowerW());
+        assertEquals(2090 / 4.0, stats.getAveragePowerW(), 0.001);
+        assertEquals(0.1, stats.getMinEmr(), 0.001);
+        assertEquals(5.0, stats.getMaxEmr(), 0.001);
+        assertEquals(5.9 / 4, stats.getAverageEmr(), 0.001);
+    }
+
+    @Test
+    void testAggregateByType() {
+        Map<Class<? extends ElectricAppliance>, ApplianceStatistics> byType =
+                manager.aggregateBy(ApplianceGroupings.byType());
+
+        assertEquals(3, byType.size());
+        ApplianceStatistics fridges = byType.get(Refrigerator.class);
+        assertEquals(2, fridges.getCount());
+        assertEquals(115.0, fridges.getAveragePowerW(), 0.001);
+        assertEquals(0.5, fridges.getMaxEmr(), 0.001);
+        assertEquals(1, byType.get(Laptop.class).getCount());
+        assertEquals(1800, byType.get(HairDryer.class).getTotalPowerW());
+    }
+
+    @Test
+    void testAggregateByPlugState() {
+        Map<Boolean, ApplianceStatistics> byPlugState = manager.aggregateBy(ApplianceGroupings.byPlugState());
+
+        assertEquals(2, byPlugState.get(true).getCount());
+        assertEquals(5.0, byPlugState.get(true).getMaxEmr(), 0.001);
+        assertEquals(140, byPlugState.get(false).getTotalPowerW());
+    }
+
+    @Test
+    void testAggregateByBucketsAndCombinedKeys() {
+        Map<String, ApplianceStatistics> byPower = manager.aggregateBy(ApplianceGroupings.byPowerBucket(100, 150));
+        assertEquals(2, byPower.get("[0, 100)").getCount());
+        // A value equal to a bound belongs to the bucket starting at that bound
+        assertNull(byPower.get("[100, 150)"));
+        assertEquals(2, byPower.get("[150, +inf)").getCount());
+
+        Map<String, ApplianceStatistics> byEmr = manager.aggregateBy(ApplianceGroupings.byEmrBucket(1.0));
+        assertEquals(3, byEmr.get("[0.0, 1.0)").getCount());
+        assertEquals(1, byEmr.get("[1.0, +inf)").getCount());
+
+        Map<List<Object>, ApplianceStatistics> combined = manager.aggregateBy(
+                ApplianceGroupings.combine(ApplianceGroupings.byType(), ApplianceGroupings.byPlugState()));
+        assertEquals(4, combined.size());
+        assertEquals(150, combined.get(List.of(Refrigerator.class, true)).getTotalPowerW());
+        assertEquals(80, combined.get(List.of(Refrigerator.class, false)).getTotalPowerW());
+    }
+
+    @Test
+    void testEmptyManagerAndInvalidArguments() {
+        ApartmentApplianceManager empty = new ApartmentApplianceManager();
+        assertTrue(empty.aggregateBy(ApplianceGroupings.byType()).isEmpty());
+        assertEquals(0, empty.calculateStatistics().getCount());
+        assertEquals(0.0, empty.calculateStatistics().getAveragePowerW(), 0.001);
+
+        assertThrows(NullPointerException.class, () -> manager.aggregateBy(null));
+        assertThrows(NullPointerException.class, () -> manager.aggregateBy(appliance -> null));
+        NullPointerException nullKey = assertThrows(NullPointerException.class, () -> manager.aggregateBy(
+                ApplianceGroupings.combine(ApplianceGroupings.byType(), appliance -> null)));
+        assertTrue(nullKey.getMessage().startsWith("Classifier returned a null key"));
+        assertThrows(IllegalArgumentException.class, () -> ApplianceGroupings.byPowerBucket(500, 100));
+        assertThrows(IllegalArgumentException.class, () -> ApplianceGroupings.byEmrBucket());
+    }
+}
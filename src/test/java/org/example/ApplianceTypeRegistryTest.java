@@ -0,0 +1,134 @@
+package org.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for subtype registration and lazily loaded extension attributes.
+ */
+class ApplianceTypeRegistryTest {
+
+    /**
+     * Custom appliance subtype registered only through the type registry.
+     */
+    private static class Kettle extends ElectricAppliance {
+        public Kettle(String name, int powerConsumptionW, double emrLevel) {
+            super(name, powerConsumptionW, emrLevel);
+        }
+    }
+
+    private ApartmentApplianceManager manager;
+    private Laptop bigLaptop;
+    private Laptop smallLaptop;
+
+    @BeforeEach
+    void setUp() {
+        manager = new ApartmentApplianceManager();
+        bigLaptop = new Laptop("Laptop_A", 90, 0.3, 17);
+        smallLaptop = new Laptop("Laptop_B", 45, 0.2, 13);
+
+        manager.addAppliance(new Refrigerator("Fridge_C", 150, 0.5, true));
+        manager.addAppliance(bigLaptop);
+        manager.addAppliance(smallLaptop);
+        manager.addAppliance(new HairDryer("Dryer_D", 1800, 5.0, 3));
+    }
+
+    /**
+     * Subclass of a built-in type with an extension attribute of its own.
+     */
+    private static class GamingLaptop extends Laptop {
+        public GamingLaptop(String name, int powerConsumptionW, double emrLevel, int screenSizeInches) {
+            super(name, powerConsumptionW, emrLevel, screenSizeInches);
+        }
+    }
+
+    @Test
+    void testBuiltInFieldAttributesAreNotCached() {
+        ApplianceTypeRegistry registry = manager.getTypeRegistry();
+
+        List<Laptop> found = manager.findByAttribute(Laptop.class, "screenSizeInches",
+                size -> (Integer) size >= 15);
+
+        assertEquals(List.of(bigLaptop), found);
+        // Field attributes are read from the appliance; no side table entries are created
+        assertEquals(0, registry.getLoadedCount(Laptop.class, "screenSizeInches"));
+        assertEquals(0, registry.getLoadedCount(Refrigerator.class, "hasFreezer"));
+        assertThrows(IllegalArgumentException.class, () -> registry.setAttribute(bigLaptop, "screenSizeInches", 15));
+    }
+
+    @Test
+    void testRegisteredSubclassInheritsAttributes() {
+        GamingLaptop gamingLaptop = new GamingLaptop("Gaming_E", 230, 0.6, 17);
+        manager.addAppliance(gamingLaptop);
+        ApplianceTypeRegistry registry = manager.getTypeRegistry();
+        registry.registerLazyAttribute(Laptop.class, "warrantyMonths", laptop -> 24);
+        // Cached in the Laptop side table before the subclass is registered
+        assertEquals(24, registry.getAttribute(gamingLaptop, "warrantyMonths"));
+        registry.registerLazyAttribute(GamingLaptop.class, "gpu", laptop -> "RTX");
+
+        assertEquals(List.of(bigLaptop, gamingLaptop), manager.findByAttribute(Laptop.class, "screenSizeInches",
+                size -> (Integer) size >= 15));
+        assertEquals(List.of(gamingLaptop), manager.findByAttribute(GamingLaptop.class, "gpu", "RTX"::equals));
+        assertEquals(List.of("gpu", "screenSizeInches", "warrantyMonths"),
+                List.copyOf(registry.getAttributeNames(GamingLaptop.class)));
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.registerLazyAttribute(GamingLaptop.class, "screenSizeInches", laptop -> 0));
+
+        // Removing the appliance evicts its inherited values as well as its own
+        manager.removeAppliance(gamingLaptop);
+        assertEquals(0, registry.getLoadedCount(Laptop.class, "warrantyMonths"));
+        assertEquals(0, registry.getLoadedCount(GamingLaptop.class, "gpu"));
+    }
+
+    @Test
+    void testExtensionAttributeIsLoadedOncePerManagedAppliance() {
+        AtomicInteger loads = new AtomicInteger();
+        Kettle kettle = new Kettle("Kettle_E", 2000, 1.2);
+        manager.addAppliance(kettle);
+        ApplianceTypeRegistry registry = manager.getTypeRegistry();
+        registry.registerLazyAttribute(Kettle.class, "volumeLiters", k -> {
+            loads.incrementAndGet();
+            return 1.7;
+        });
+
+        assertEquals(List.of(kettle), manager.findByAttribute(Kettle.class, "volumeLiters", v -> (Double) v > 1.5));
+        assertEquals(1.7, (Double) registry.getAttribute(kettle, "volumeLiters"), 0.001);
+        assertEquals(1, loads.get());
+        assertEquals(List.of("volumeLiters"), List.copyOf(registry.getAttributeNames(Kettle.class)));
+
+        // The side table is the storage of the attribute
+        registry.setAttribute(kettle, "volumeLiters", 1.2);
+        assertEquals(1.2, (Double) registry.getAttribute(kettle, "volumeLiters"), 0.001);
+        assertEquals(1, registry.getLoadedCount(Kettle.class, "volumeLiters"));
+    }
+
+    @Test
+    void testUnmanagedAppliancesAreNotStored() {
+        Kettle unmanaged = new Kettle("Kettle_F", 1500, 1.0);
+        ApplianceTypeRegistry registry = manager.getTypeRegistry();
+        registry.registerLazyAttribute(Kettle.class, "volumeLiters", k -> 1.0);
+
+        assertEquals(1.0, (Double) registry.getAttribute(unmanaged, "volumeLiters"), 0.001);
+        assertEquals(0, registry.getLoadedCount(Kettle.class, "volumeLiters"));
+        assertThrows(IllegalArgumentException.class, () -> registry.setAttribute(unmanaged, "volumeLiters", 2.0));
+    }
+
+    @Test
+    void testNoMatchThrowsNoSuchElementException() {
+        assertThrows(NoSuchElementException.class, () -> manager.findByAttribute(HairDryer.class, "speedSettings",
+                speeds -> (Integer) speeds > 5));
+    }
+
+    @Test
+    void testUnknownTypeOrAttributeThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> manager.findByAttribute(Laptop.class, "weight", v -> true));
+        assertThrows(IllegalArgumentException.class, () -> manager.findByAttribute(Kettle.class, "volume", v -> true));
+        assertThrows(IllegalArgumentException.class, () -> manager.getTypeRegistry()
+                .registerAttribute(Laptop.class, "screenSizeInches", Laptop::getScreenSizeInches));
+        assertFalse(manager.getTypeRegistry().isRegistered(Kettle.class));
+    }
+}
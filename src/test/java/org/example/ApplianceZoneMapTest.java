@@ -0,0 +1,152 @@
+package org.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the partitioning of the apartment into circuits and rooms with per-zone aggregates.
+ */
+class ApplianceZoneMapTest {
+
+    private ApartmentApplianceManager manager;
+    private ApplianceZoneMap zones;
+    private ApplianceZone circuit;
+    private ApplianceZone kitchen;
+    private ApplianceZone bathroom;
+    private Refrigerator fridge;
+    private Laptop laptop;
+    private HairDryer dryer;
+
+    @BeforeEach
+    void setUp() {
+        manager = new ApartmentApplianceManager();
+        fridge = new Refrigerator("Fridge_A", 150, 0.5, true);
+        laptop = new Laptop("Laptop_B", 60, 0.1, 16);
+        dryer = new HairDryer("Dryer_C", 1800, 5.0, 3);
+        manager.addAppliance(fridge);
+        manager.addAppliance(laptop);
+        manager.addAppliance(dryer);
+
+        // Apartment -> Circuit 1 -> Kitchen, Bathroom
+        zones = manager.getZoneMap();
+        circuit = zones.createZone("Circuit 1");
+        kitchen = zones.createZone("Kitchen", circuit);
+        bathroom = zones.createZone("Bathroom", circuit);
+
+        manager.assignToZone(fridge, "Kitchen");
+        manager.assignToZone(laptop, "Kitchen");
+        manager.assignToZone(dryer, "Bathroom");
+    }
+
+    @Test
+    void testAggregatesFollowPlugStateChanges() {
+        assertEquals(2, kitchen.getApplianceCount());
+        assertEquals(3, circuit.getApplianceCount());
+        assertEquals(0, circuit.getPluggedInPowerW());
+
+        fridge.plugIn();
+        dryer.plugIn();
+
+        assertEquals(150, kitchen.getPluggedInPowerW());
+        assertEquals(1800, bathroom.getPluggedInPowerW());
+        assertEquals(1950, circuit.getPluggedInPowerW());
+        assertEquals(1950, zones.getRoot().getPluggedInPowerW());
+        assertEquals(2, circuit.getPluggedInCount());
+        assertEquals(5.5, circuit.getEmrExposure(), 0.001);
+
+        // The root only covers assigned appliances, each counted once
+        Laptop unassigned = new Laptop("Laptop_D", 45, 0.2, 13);
+        unassigned.plugIn();
+        manager.addAppliance(unassigned);
+        manager.addAppliance(fridge);
+        assertEquals(1950, zones.getRoot().getPluggedInPowerW());
+        assertEquals(1950 + 45 + 150, manager.calculateTotalPluggedInPower());
+
+        dryer.unplug();
+        assertEquals(0, bathroom.getPluggedInPowerW());
+        assertEquals(0.0, bathroom.getEmrExposure(), 0.0);
+        assertEquals(150, circuit.getPluggedInPowerW());
+    }
+
+    @Test
+    void testHighestEmrRoomIsMaintained() {
+        laptop.plugIn();
+        assertSame(kitchen, circuit.getHighestEmrChild());
+
+        dryer.plugIn();
+        assertSame(bathroom, circuit.getHighestEmrChild());
+
+        dryer.unplug();
+        assertSame(kitchen, circuit.getHighestEmrChild());
+        assertSame(circuit, zones.getRoot().getHighestEmrChild());
+        assertNull(kitchen.getHighestEmrChild());
+
+        // Repeatedly toggling the current maximum keeps the lookup up to date
+        for (int i = 0; i < 3; i++) {
+            laptop.unplug();
+            assertSame(kitchen, circuit.getHighestEmrChild(), "Ties go to the earlier created room");
+            laptop.plugIn();
+            assertSame(kitchen, circuit.getHighestEmrChild());
+        }
+
+        Map<String, Double> exposure = zones.getEmrExposureMap();
+        assertEquals(List.of("Apartment", "Circuit 1", "Kitchen", "Bathroom"), List.copyOf(exposure.keySet()));
+        assertEquals(0.1, exposure.get("Kitchen"), 0.001);
+    }
+
+    @Test
+    void testCircuitLoadCheck() {
+        circuit.setCapacityW(1000);
+        fridge.plugIn();
+        assertFalse(circuit.isOverloaded());
+
+        dryer.plugIn();
+        assertTrue(circuit.isOverloaded());
+        assertEquals(List.of(circuit), zones.findOverloadedZones());
+    }
+
+    @Test
+    void testReassignAndRemoveUpdateAggregates() {
+        fridge.plugIn();
+        manager.assignToZone(fridge, "Bathroom");
+        assertEquals(0, kitchen.getPluggedInPowerW());
+        assertEquals(150, bathroom.getPluggedInPowerW());
+        assertSame(bathroom, zones.getZoneOf(fridge));
+
+        manager.removeAppliance(fridge);
+        assertEquals(0, bathroom.getPluggedInPowerW());
+        assertEquals(1, bathroom.getApplianceCount());
+        assertNull(zones.getZoneOf(fridge));
+    }
+
+    @Test
+    void testTotalPluggedInPowerIsMaintainedIncrementally() {
+        fridge.plugIn();
+        manager.addAppliance(fridge); // The same fridge counted twice, as in the list
+        assertEquals(300, manager.calculateTotalPluggedInPower());
+
+        fridge.unplug();
+        assertEquals(0, manager.calculateTotalPluggedInPower());
+
+        fridge.plugIn();
+        manager.removeAppliance(fridge);
+        assertEquals(150, manager.calculateTotalPluggedInPower());
+        assertEquals(150, kitchen.getPluggedInPowerW());
+    }
+
+    @Test
+    void testInvalidZoneOperationsThrowExceptions() {
+        assertThrows(IllegalArgumentException.class, () -> zones.createZone("Kitchen"));
+        assertThrows(IllegalArgumentException.class, () -> zones.createZone(" "));
+        assertThrows(NoSuchElementException.class, () -> manager.assignToZone(fridge, "Garage"));
+        assertThrows(IllegalArgumentException.class,
+                () -> manager.assignToZone(new Laptop("Unmanaged", 50, 0.2, 13), "Kitchen"));
+        assertThrows(IllegalArgumentException.class, () -> circuit.setCapacityW(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> zones.createZone("Hall", new ApartmentApplianceManager().getZoneMap().getRoot()));
+    }
+}